@@ -0,0 +1,29 @@
+package br.dev.fscarmo.ixcorm.benchmarks;
+
+
+import br.dev.fscarmo.ixcorm.IxcOrm;
+import br.dev.fscarmo.ixcorm.IxcTenant;
+
+
+/**
+ * <p>
+ * Entidade da tabela <b>cliente</b>, vinculada ao {@link IxcTenant} de cada benchmark.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class Cliente extends IxcOrm {
+
+    public Cliente(IxcTenant tenant) {
+        super("cliente", tenant);
+    }
+
+    /**
+     * @return O JSON da query de busca acumulada na instância.
+     */
+    public String queryAsJson() {
+        return getQueryAsJson();
+    }
+}
@@ -0,0 +1,77 @@
+package br.dev.fscarmo.ixcorm.benchmarks;
+
+
+import br.dev.fscarmo.ixcorm.IxcTenant;
+import br.dev.fscarmo.ixcorm.api.IxcTransport;
+import br.dev.fscarmo.ixcorm.api.records.Pagination;
+import br.dev.fscarmo.ixcorm.config.envs.StaticEnv;
+import br.dev.fscarmo.ixcorm.stub.IxcStubServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>
+ * Mede uma listagem completa, de <b>GET()</b> até o mapeamento dos registros, contra um {@link IxcStubServer} sem
+ * latência adicional.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndToEndBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private IxcStubServer server;
+    private IxcTenant tenant;
+
+    @Setup
+    public void setup() {
+        server = IxcStubServer.newBuilder()
+                .table("cliente", rows, Fixtures::record)
+                .build()
+                .start();
+        IxcTransport transport = IxcTransport.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        tenant = IxcTenant.newBuilder("benchmark", new StaticEnv("token", "127.0.0.1", server.getEndpoint()))
+                .transport(transport)
+                .coalescing(false)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public List<WideRecord> get() {
+        Cliente cliente = new Cliente(tenant);
+        cliente.setPagination(new Pagination(1, rows));
+        return cliente.GET().getBody().getRegistros(WideRecord.class);
+    }
+}
@@ -0,0 +1,92 @@
+package br.dev.fscarmo.ixcorm.benchmarks;
+
+
+import br.dev.fscarmo.ixcorm.api.Utils;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+
+/**
+ * <p>
+ * Gera os corpos de resposta utilizados pelos benchmarks, no mesmo formato das listagens da API do IXC Provedor.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public final class Fixtures {
+
+    private Fixtures() {}
+
+    /**
+     * @param firstId O id do primeiro registro da página.
+     * @param rows A quantidade de registros da página.
+     * @param page O número da página.
+     * @param total A quantidade total de registros da listagem.
+     * @return O JSON de uma página de listagem com registros no formato de {@link WideRecord}.
+     */
+    public static String listing(int firstId, int rows, int page, int total) {
+        StringBuilder json = new StringBuilder(rows * 700 + 64);
+        json.append("{\"page\":\"").append(page).append("\",\"total\":\"").append(total).append("\",\"registros\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendRecord(json, firstId + i);
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * @param id O id do registro.
+     * @return Um registro no formato de {@link WideRecord}, para as tabelas do servidor local.
+     */
+    public static JsonObject record(int id) {
+        StringBuilder json = new StringBuilder(700);
+        appendRecord(json, id);
+        return JsonParser.parseString(json.toString()).getAsJsonObject();
+    }
+
+    private static void appendRecord(StringBuilder json, int id) {
+        json.append('{');
+        field(json, "id", id).append(',');
+        field(json, "razao", "Cliente Número "+ id +" Telecomunicações LTDA").append(',');
+        field(json, "fantasia", "Cliente "+ id).append(',');
+        field(json, "cnpj_cpf", String.format("%014d", id)).append(',');
+        field(json, "ie_identidade", "ISENTO").append(',');
+        field(json, "tipo_pessoa", (id % 2 == 0) ? "J" : "F").append(',');
+        field(json, "ativo", "S").append(',');
+        field(json, "endereco", "Rua \"Projetada\" "+ (id % 300)).append(',');
+        field(json, "numero", id % 1000).append(',');
+        field(json, "complemento", "Sala "+ (id % 12)).append(',');
+        field(json, "bairro", "Centro").append(',');
+        field(json, "cidade", "Fortaleza").append(',');
+        field(json, "uf", "CE").append(',');
+        field(json, "cep", "60000-000").append(',');
+        field(json, "email", "cliente"+ id +"@example.com").append(',');
+        field(json, "telefone_celular", "(85) 9"+ (10000000 + id % 90000000)).append(',');
+        field(json, "telefone_comercial", "(85) 3"+ (1000000 + id % 9000000)).append(',');
+        field(json, "obs", "Observação\ncom quebra de linha").append(',');
+        field(json, "id_condominio", id % 50).append(',');
+        field(json, "id_tipo_cliente", id % 7).append(',');
+        field(json, "id_vendedor", id % 30).append(',');
+        field(json, "id_conta", id % 5).append(',');
+        field(json, "dia_vencimento", 1 + id % 28).append(',');
+        field(json, "data_cadastro", 1_700_000_000L + id).append(',');
+        field(json, "ultima_atualizacao", 1_760_000_000L + id).append(',');
+        field(json, "limite_credito", "1500.00").append(',');
+        field(json, "desconto", "0.05").append(',');
+        field(json, "latitude", "-3.7319").append(',');
+        field(json, "longitude", "-38.5267").append(',');
+        field(json, "bloqueado", "false").append(',');
+        field(json, "isento", (id % 10 == 0) ? "true" : "false");
+        json.append('}');
+    }
+
+    private static StringBuilder field(StringBuilder json, String name, Object value) {
+        json.append('"').append(name).append("\":\"");
+        Utils.Json.escape(json, String.valueOf(value));
+        return json.append('"');
+    }
+}
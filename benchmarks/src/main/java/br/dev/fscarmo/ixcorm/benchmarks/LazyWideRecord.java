@@ -0,0 +1,69 @@
+package br.dev.fscarmo.ixcorm.benchmarks;
+
+
+import br.dev.fscarmo.ixcorm.IxcRecord;
+import br.dev.fscarmo.ixcorm.LazyRecord;
+import com.google.gson.JsonElement;
+
+import java.math.BigDecimal;
+
+
+/**
+ * <p>
+ * Mesmo registro de {@link WideRecord}, anotado com {@link LazyRecord}, para comparar o mapeamento sob demanda com o
+ * mapeamento completo no construtor.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@LazyRecord
+@SuppressWarnings("unused")
+public class LazyWideRecord extends IxcRecord {
+
+    private String razao;
+    private String fantasia;
+    private String cnpj_cpf;
+    private String ie_identidade;
+    private String tipo_pessoa;
+    private String ativo;
+    private String endereco;
+    private String numero;
+    private String complemento;
+    private String bairro;
+    private String cidade;
+    private String uf;
+    private String cep;
+    private String email;
+    private String telefone_celular;
+    private String telefone_comercial;
+    private String obs;
+    private Integer id_condominio;
+    private Integer id_tipo_cliente;
+    private Integer id_vendedor;
+    private Integer id_conta;
+    private Integer dia_vencimento;
+    private Long data_cadastro;
+    private Long ultima_atualizacao;
+    private BigDecimal limite_credito;
+    private BigDecimal desconto;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private Boolean bloqueado;
+    private Boolean isento;
+
+    public LazyWideRecord(JsonElement jsonElement) {
+        super(jsonElement);
+    }
+
+    public String getRazao() {
+        resolve("razao");
+        return razao;
+    }
+
+    public Integer getIdVendedor() {
+        resolve("id_vendedor");
+        return id_vendedor;
+    }
+}
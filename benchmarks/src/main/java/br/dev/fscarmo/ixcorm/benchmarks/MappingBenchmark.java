@@ -0,0 +1,72 @@
+package br.dev.fscarmo.ixcorm.benchmarks;
+
+
+import br.dev.fscarmo.ixcorm.IxcResponse;
+import br.dev.fscarmo.ixcorm.IxcResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>
+ * Mede o mapeamento dos registros de uma página já lida, por <b>IxcResponseBody.getRegistros(Class< T > mapper)</b>,
+ * que cria cada {@link WideRecord} e o preenche pelo <b>IxcRecordMapper</b>. Também compara a leitura de apenas duas
+ * colunas de cada registro, com o mapeamento completo e com o mapeamento sob demanda de {@link LazyWideRecord}.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private IxcResponseBody body;
+
+    @Setup
+    public void setup() {
+        body = new IxcResponse(200, Fixtures.listing(1, rows, 1, rows)).getBody();
+    }
+
+    @Benchmark
+    public List<WideRecord> getRegistros() {
+        return body.getRegistros(WideRecord.class);
+    }
+
+    @Benchmark
+    public void twoColumnsEager(Blackhole blackhole) {
+        for (WideRecord record : body.getRegistros(WideRecord.class)) {
+            blackhole.consume(record.getRazao());
+            blackhole.consume(record.getIdVendedor());
+        }
+    }
+
+    @Benchmark
+    public void twoColumnsLazy(Blackhole blackhole) {
+        for (LazyWideRecord record : body.getRegistros(LazyWideRecord.class)) {
+            blackhole.consume(record.getRazao());
+            blackhole.consume(record.getIdVendedor());
+        }
+    }
+}
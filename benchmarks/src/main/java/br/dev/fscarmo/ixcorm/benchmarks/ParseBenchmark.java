@@ -0,0 +1,52 @@
+package br.dev.fscarmo.ixcorm.benchmarks;
+
+
+import br.dev.fscarmo.ixcorm.IxcResponse;
+import br.dev.fscarmo.ixcorm.IxcResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>
+ * Mede a leitura do JSON de uma página de listagem, por <b>IxcResponse.getBody()</b>.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private IxcResponse response;
+
+    @Setup
+    public void setup() {
+        response = new IxcResponse(200, Fixtures.listing(1, rows, 1, rows));
+    }
+
+    @Benchmark
+    public IxcResponseBody getBody() {
+        return response.getBody();
+    }
+}
@@ -0,0 +1,61 @@
+package br.dev.fscarmo.ixcorm.benchmarks;
+
+
+import br.dev.fscarmo.ixcorm.IxcTenant;
+import br.dev.fscarmo.ixcorm.config.envs.StaticEnv;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>
+ * Mede a construção de uma query de busca com vários filtros e a geração do seu JSON, por
+ * <b>IxcOrm.getQueryAsJson()</b>.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int filters;
+
+    private IxcTenant tenant;
+
+    @Setup
+    public void setup() {
+        tenant = IxcTenant.newBuilder("benchmark", new StaticEnv("token", "localhost")).build();
+    }
+
+    @Benchmark
+    public String queryAsJson() {
+        Cliente cliente = new Cliente(tenant);
+        for (int i = 0; i < filters; i++) {
+            switch (i % 3) {
+                case 0 -> cliente.where("razao").like("Cliente \"" + i + "\"");
+                case 1 -> cliente.where("id").greaterThan(i);
+                default -> cliente.where("ativo").exactly("S");
+            }
+        }
+        return cliente.queryAsJson();
+    }
+}
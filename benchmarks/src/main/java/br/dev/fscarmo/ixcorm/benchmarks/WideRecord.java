@@ -0,0 +1,64 @@
+package br.dev.fscarmo.ixcorm.benchmarks;
+
+
+import br.dev.fscarmo.ixcorm.IxcRecord;
+import com.google.gson.JsonElement;
+
+import java.math.BigDecimal;
+
+
+/**
+ * <p>
+ * Registro com a largura aproximada de um cliente do IXC Provedor, utilizado nos benchmarks de mapeamento.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+@SuppressWarnings("unused")
+public class WideRecord extends IxcRecord {
+
+    private String razao;
+    private String fantasia;
+    private String cnpj_cpf;
+    private String ie_identidade;
+    private String tipo_pessoa;
+    private String ativo;
+    private String endereco;
+    private String numero;
+    private String complemento;
+    private String bairro;
+    private String cidade;
+    private String uf;
+    private String cep;
+    private String email;
+    private String telefone_celular;
+    private String telefone_comercial;
+    private String obs;
+    private Integer id_condominio;
+    private Integer id_tipo_cliente;
+    private Integer id_vendedor;
+    private Integer id_conta;
+    private Integer dia_vencimento;
+    private Long data_cadastro;
+    private Long ultima_atualizacao;
+    private BigDecimal limite_credito;
+    private BigDecimal desconto;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private Boolean bloqueado;
+    private Boolean isento;
+
+    public WideRecord(JsonElement jsonElement) {
+        super(jsonElement);
+    }
+
+    public String getRazao() {
+        return razao;
+    }
+
+    public Integer getIdVendedor() {
+        return id_vendedor;
+    }
+}
@@ -0,0 +1,377 @@
+package br.dev.fscarmo.ixcorm;
+
+
+import br.dev.fscarmo.ixcorm.api.Column;
+import br.dev.fscarmo.ixcorm.api.ColumnSet;
+import br.dev.fscarmo.ixcorm.api.DoubleColumn;
+import br.dev.fscarmo.ixcorm.api.IntColumn;
+import br.dev.fscarmo.ixcorm.api.LongColumn;
+import br.dev.fscarmo.ixcorm.api.StringColumn;
+import br.dev.fscarmo.ixcorm.exception.NetworkConnectionException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * <p>
+ * A classe 'IxcColumnarResult' armazena o resultado de uma listagem em colunas, em vez de um objeto por registro. Cada
+ * propriedade declarada no {@link Builder} é mantida em um array do tipo primitivo correspondente ({@link IntColumn},
+ * {@link LongColumn} e {@link DoubleColumn}), ou codificada por dicionário ({@link StringColumn}), de modo que
+ * listagens com centenas de milhares de registros, como as da tabela <b>fn_areceber</b>, ocupem alguns bytes por
+ * valor, em vez de um {@link IxcRecord} e um JsonObject por linha.
+ * </p>
+ *
+ * <p>
+ * Os registros são decodificados diretamente do corpo da resposta, com um {@link JsonReader}, e cada valor é gravado
+ * na sua coluna sem que o registro seja montado como árvore JSON. As propriedades não declaradas são descartadas, e as
+ * propriedades ausentes em um registro ficam nulas. Uma linha pode ser lida através de <b>row(int index)</b>, que
+ * retorna uma visão da linha sobre as colunas, sem copiar os valores.
+ * </p>
+ *
+ * {@snippet lang = java:
+ * IxcColumnarResult areceber = new Areceber()
+ *         .where("status").exactly("A")
+ *         .columnar(IxcColumnarResult.newBuilder()
+ *                 .intColumn("id")
+ *                 .intColumn("id_cliente")
+ *                 .doubleColumn("valor")
+ *                 .stringColumn("data_vencimento"));
+ *
+ * DoubleColumn valor = areceber.getDoubleColumn("valor");
+ * double total = 0;
+ * for (int i = 0; i < areceber.size(); i++) {
+ *     total += valor.getDouble(i);
+ * }
+ * }
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class IxcColumnarResult {
+
+    private final Map<String, Column> columns;
+    private final int size;
+    private final int total;
+
+    private IxcColumnarResult(Builder builder) {
+        builder.columns.trim();
+        this.columns = builder.columns.getColumns();
+        this.size = builder.columns.size();
+        this.total = builder.total;
+    }
+
+    /**
+     * @return Uma nova instância de {@link Builder}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return A quantidade de registros armazenados.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return A quantidade total de registros encontrados na consulta, conforme informado pelo IXC Provedor.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return As colunas armazenadas, na ordem em que foram declaradas. As colunas são somente leitura.
+     */
+    public Collection<Column> getColumns() {
+        return columns.values();
+    }
+
+    /**
+     * @param name O nome da propriedade dos registros.
+     * @return A {@link Column} da propriedade.
+     * @throws IllegalArgumentException Se a coluna não foi declarada.
+     */
+    public Column getColumn(String name) {
+        Column column = columns.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException("Coluna não declarada: " + name);
+        }
+        return column;
+    }
+
+    /**
+     * @param name O nome da propriedade dos registros.
+     * @return A {@link IntColumn} da propriedade.
+     * @throws IllegalArgumentException Se a coluna não foi declarada com esse tipo.
+     */
+    public IntColumn getIntColumn(String name) {
+        return getColumn(name, IntColumn.class);
+    }
+
+    /**
+     * @param name O nome da propriedade dos registros.
+     * @return A {@link LongColumn} da propriedade.
+     * @throws IllegalArgumentException Se a coluna não foi declarada com esse tipo.
+     */
+    public LongColumn getLongColumn(String name) {
+        return getColumn(name, LongColumn.class);
+    }
+
+    /**
+     * @param name O nome da propriedade dos registros.
+     * @return A {@link DoubleColumn} da propriedade.
+     * @throws IllegalArgumentException Se a coluna não foi declarada com esse tipo.
+     */
+    public DoubleColumn getDoubleColumn(String name) {
+        return getColumn(name, DoubleColumn.class);
+    }
+
+    /**
+     * @param name O nome da propriedade dos registros.
+     * @return A {@link StringColumn} da propriedade.
+     * @throws IllegalArgumentException Se a coluna não foi declarada com esse tipo.
+     */
+    public StringColumn getStringColumn(String name) {
+        return getColumn(name, StringColumn.class);
+    }
+
+    /**
+     * @param index A posição do registro.
+     * @return Uma {@link Row} sobre os valores do registro.
+     * @throws IndexOutOfBoundsException Se a posição não existir.
+     */
+    public Row row(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return new Row(index);
+    }
+
+    /**
+     * @return Um {@link Stream} sequencial com uma {@link Row} para cada registro.
+     */
+    public Stream<Row> rows() {
+        return IntStream.range(0, size).mapToObj(Row::new);
+    }
+
+    private <C extends Column> C getColumn(String name, Class<C> type) {
+        Column column = getColumn(name);
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException("A coluna " + name + " não é do tipo " + type.getSimpleName());
+        }
+        return type.cast(column);
+    }
+
+    /**
+     * <p>
+     * A classe 'Row' é uma visão de um único registro de um {@link IxcColumnarResult}. Os valores são lidos
+     * diretamente das colunas, no momento em que são solicitados.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     */
+    public class Row {
+
+        private final int index;
+
+        private Row(int index) {
+            this.index = index;
+        }
+
+        /**
+         * @return A posição do registro.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @param column O nome da propriedade.
+         * @return <b>true</b> se o registro não possui valor para a propriedade.
+         */
+        public boolean isNull(String column) {
+            return getColumn(column).isNull(index);
+        }
+
+        /**
+         * @param column O nome de uma propriedade declarada com <b>intColumn(String name)</b>.
+         * @return O valor da propriedade, ou <b>0</b> se o registro não possuir valor.
+         */
+        public int getInt(String column) {
+            return getIntColumn(column).getInt(index);
+        }
+
+        /**
+         * @param column O nome de uma propriedade declarada com <b>longColumn(String name)</b>.
+         * @return O valor da propriedade, ou <b>0</b> se o registro não possuir valor.
+         */
+        public long getLong(String column) {
+            return getLongColumn(column).getLong(index);
+        }
+
+        /**
+         * @param column O nome de uma propriedade declarada com <b>doubleColumn(String name)</b>.
+         * @return O valor da propriedade, ou <b>0</b> se o registro não possuir valor.
+         */
+        public double getDouble(String column) {
+            return getDoubleColumn(column).getDouble(index);
+        }
+
+        /**
+         * @param column O nome de qualquer propriedade declarada.
+         * @return O valor da propriedade convertido para texto, ou <b>null</b> se o registro não possuir valor.
+         */
+        public String getString(String column) {
+            return getColumn(column).getAsString(index);
+        }
+    }
+
+    /**
+     * <p>
+     * A classe 'Builder' declara as colunas de um {@link IxcColumnarResult} e acumula os registros de uma ou mais
+     * páginas de uma listagem, através de <b>read(int statusCode, InputStream body)</b>.
+     * </p>
+     *
+     * <p>
+     * As colunas são entregues ao {@link IxcColumnarResult} sem cópia, por isso cada 'Builder' pode ser utilizado
+     * para construir um único resultado.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.1.0
+     * @since 2026-10-17
+     */
+    public static class Builder {
+
+        private final ColumnSet columns;
+        private int total;
+        private boolean built;
+
+        private Builder() {
+            columns = new ColumnSet();
+        }
+
+        /**
+         * @param name O nome de uma propriedade com valores inteiros de 32 bits.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder intColumn(String name) {
+            checkNotBuilt();
+            columns.intColumn(name);
+            return this;
+        }
+
+        /**
+         * @param name O nome de uma propriedade com valores inteiros de 64 bits.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder longColumn(String name) {
+            checkNotBuilt();
+            columns.longColumn(name);
+            return this;
+        }
+
+        /**
+         * @param name O nome de uma propriedade com valores decimais.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder doubleColumn(String name) {
+            checkNotBuilt();
+            columns.doubleColumn(name);
+            return this;
+        }
+
+        /**
+         * @param name O nome de uma propriedade com valores de texto.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder stringColumn(String name) {
+            checkNotBuilt();
+            columns.stringColumn(name);
+            return this;
+        }
+
+        /**
+         * @return A quantidade de registros acumulados até o momento.
+         */
+        public int size() {
+            return columns.size();
+        }
+
+        /**
+         * @return A quantidade total de registros da consulta, conforme informado na última resposta lida.
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * <p>
+         * Decodifica o corpo de uma resposta de listagem, adicionando os seus registros às colunas declaradas. O
+         * {@link InputStream} é sempre fechado ao final da leitura.
+         * </p>
+         *
+         * @param statusCode O código numérico do status da resposta.
+         * @param body O {@link InputStream} com o corpo da resposta.
+         * @return A quantidade de registros lidos da resposta.
+         * @throws NetworkConnectionException Se o corpo da resposta não puder ser lido.
+         * @throws IllegalStateException Se o 'Builder' já construiu um resultado.
+         */
+        public int read(int statusCode, InputStream body) throws NetworkConnectionException {
+            checkNotBuilt();
+            try (JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                if (statusCode < 200 || statusCode >= 300 || reader.peek() != JsonToken.BEGIN_OBJECT) {
+                    return 0;
+                }
+                int count = 0;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if (name.equals("registros") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                        count += columns.read(reader);
+                    }
+                    else if (name.equals("total") && reader.peek() != JsonToken.NULL) {
+                        total = Integer.parseInt(reader.nextString());
+                    }
+                    else {
+                        reader.skipValue();
+                    }
+                }
+                return count;
+            }
+            catch (IOException | IllegalStateException | NumberFormatException e) {
+                throw new NetworkConnectionException();
+            }
+        }
+
+        /**
+         * @return Uma nova instância de {@link IxcColumnarResult}, com os registros acumulados.
+         * @throws IllegalStateException Se o 'Builder' já construiu um resultado.
+         */
+        public IxcColumnarResult build() {
+            checkNotBuilt();
+            built = true;
+            return new IxcColumnarResult(this);
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("O Builder já foi utilizado para construir um resultado");
+            }
+        }
+    }
+}
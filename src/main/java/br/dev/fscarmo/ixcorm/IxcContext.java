@@ -1,8 +1,17 @@
 package br.dev.fscarmo.ixcorm;
 
 
+import br.dev.fscarmo.ixcorm.api.InFlightRequests;
+import br.dev.fscarmo.ixcorm.api.IxcMetrics;
+import br.dev.fscarmo.ixcorm.api.IxcTransport;
+import br.dev.fscarmo.ixcorm.api.ListingCache;
+import br.dev.fscarmo.ixcorm.api.RetryPolicy;
+import br.dev.fscarmo.ixcorm.api.records.RateLimits;
 import br.dev.fscarmo.ixcorm.config.Environment;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 
 /**
  <p>
@@ -10,14 +19,46 @@ import br.dev.fscarmo.ixcorm.config.Environment;
  * da aplicação.
  </p>
  *
+ * <p>
+ * O contexto também é o dono do {@link IxcTransport} compartilhado por todas as instâncias de {@link IxcOrm}, para que
+ * as conexões com o servidor do IXC Provedor sejam reutilizadas entre as requisições, e do {@link ListingCache}
+ * opcional, consultado antes de cada requisição de listagem. Por padrão, listagens idênticas em andamento ao mesmo
+ * tempo são agrupadas em uma única requisição, pelo {@link InFlightRequests} do contexto.
+ * </p>
+ *
+ * <p>
+ * Quando {@link RateLimits} são definidos, a taxa de requisições para o domínio do IXC Provedor é controlada por um
+ * {@link br.dev.fscarmo.ixcorm.api.DomainRateLimiter}, compartilhado por todas as instâncias de {@link IxcOrm}. Da
+ * mesma forma, uma {@link RetryPolicy} definida no contexto passa a reenviar as requisições que falharem.
+ * </p>
+ *
+ * <p>
+ * As configurações acima formam o ambiente padrão, utilizado pelas instâncias de {@link IxcOrm} criadas sem um
+ * {@link IxcTenant}. Para consultar vários provedores na mesma aplicação, cada um pode ser registrado como um
+ * {@link IxcTenant}, com o seu próprio ambiente, por <b>addTenant(IxcTenant tenant)</b>.
+ * </p>
+ *
+ * <p>
+ * Por fim, o contexto mantém a implementação de {@link IxcMetrics} opcional, que recebe as medições de todas as
+ * requisições, de todos os tenants.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 1.0.0
+ * @version 1.8.1
  * @since 2025-09-27
  */
 public enum IxcContext {
     INSTANCE;
 
     private Environment env = null;
+    private volatile IxcTransport transport = null;
+    private volatile ListingCache cache = null;
+    private volatile boolean coalescing = true;
+    private volatile RateLimits rateLimits = null;
+    private volatile RetryPolicy retryPolicy = null;
+    private volatile IxcMetrics metrics = null;
+    private final InFlightRequests inFlightRequests = new InFlightRequests();
+    private final Map<String, IxcTenant> tenants = new ConcurrentHashMap<>();
 
     IxcContext() {}
 
@@ -40,4 +81,178 @@ public enum IxcContext {
     public Environment getEnv() {
         return env;
     }
+
+    /**
+     * <p>
+     * Define o {@link IxcTransport} compartilhado no contexto, caso já não tenha sido previamente definido. Deve ser
+     * invocado antes da primeira requisição, para substituir o transporte padrão.
+     * </p>
+     *
+     * @param transport Um {@link IxcTransport} configurado pela aplicação.
+     */
+    public synchronized void setTransport(IxcTransport transport) {
+        if (this.transport == null) {
+            this.transport = transport;
+        }
+    }
+
+    /**
+     * @return O {@link IxcTransport} definido por <b>setTransport(IxcTransport transport)</b>, ou um transporte com as
+     *         configurações padrão, criado na primeira vez que for solicitado.
+     */
+    public IxcTransport getTransport() {
+        IxcTransport current = transport;
+        if (current == null) {
+            synchronized (this) {
+                if (transport == null) {
+                    transport = IxcTransport.defaults();
+                }
+                current = transport;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * <p>
+     * Habilita o cache de leitura das requisições de listagem. Quando nenhum cache é definido, todas as listagens são
+     * enviadas ao IXC Provedor.
+     * </p>
+     *
+     * @param cache Um {@link ListingCache} configurado pela aplicação, ou <b>null</b> para desabilitar o cache.
+     */
+    public void setCache(ListingCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * @return O {@link ListingCache} definido por <b>setCache(ListingCache cache)</b>, ou <b>null</b> se o cache não
+     *         estiver habilitado.
+     */
+    public ListingCache getCache() {
+        return cache;
+    }
+
+    /**
+     * <p>
+     * Habilita ou desabilita o agrupamento de listagens idênticas em andamento ao mesmo tempo. Habilitado por padrão.
+     * </p>
+     *
+     * @param coalescing Se <b>false</b>, toda listagem envia a sua própria requisição.
+     */
+    public void setCoalescing(boolean coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * @return O {@link InFlightRequests} do contexto, ou <b>null</b> se o agrupamento de listagens estiver
+     *         desabilitado.
+     */
+    public InFlightRequests getInFlightRequests() {
+        return coalescing ? inFlightRequests : null;
+    }
+
+    /**
+     * <p>
+     * Habilita o controle da taxa de requisições enviadas ao domínio do IXC Provedor. A cada requisição, os limites
+     * atuais são comparados com os do limitador do domínio, que é reconfigurado quando eles forem diferentes. Assim,
+     * uma alteração feita com a aplicação em execução vale a partir da próxima requisição.
+     * </p>
+     *
+     * @param rateLimits Os limites de listagens e escritas por segundo, ou <b>null</b> para desabilitar o controle.
+     */
+    public void setRateLimits(RateLimits rateLimits) {
+        this.rateLimits = rateLimits;
+    }
+
+    /**
+     * @return Os {@link RateLimits} definidos por <b>setRateLimits(RateLimits rateLimits)</b>, ou <b>null</b> se o
+     *         controle da taxa de requisições estiver desabilitado.
+     */
+    public RateLimits getRateLimits() {
+        return rateLimits;
+    }
+
+    /**
+     * <p>
+     * Define a política de reenvio das requisições que falharem. Quando nenhuma política é definida, as requisições
+     * não são reenviadas e qualquer falha de comunicação resulta em uma
+     * {@link br.dev.fscarmo.ixcorm.exception.NetworkConnectionException}.
+     * </p>
+     *
+     * @param retryPolicy Uma {@link RetryPolicy} configurada pela aplicação, ou <b>null</b> para desabilitar os
+     *                    reenvios.
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * @return A {@link RetryPolicy} definida por <b>setRetryPolicy(RetryPolicy retryPolicy)</b>, ou <b>null</b> se os
+     *         reenvios estiverem desabilitados.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * <p>
+     * Registra um {@link IxcTenant} no contexto, substituindo o tenant previamente registrado com o mesmo id. O
+     * tenant substituído é fechado, exceto quando compartilha o {@link IxcTransport} do novo tenant.
+     * </p>
+     *
+     * @param tenant O {@link IxcTenant} a ser registrado.
+     */
+    public void addTenant(IxcTenant tenant) {
+        IxcTenant previous = tenants.put(tenant.getId(), tenant);
+        if (previous != null && previous.getDispatcher().getTransport() != tenant.getDispatcher().getTransport()) {
+            previous.close();
+        }
+    }
+
+    /**
+     * @param id O identificador do tenant.
+     * @return O {@link IxcTenant} registrado com o id informado, ou <b>null</b> se não existir.
+     */
+    public IxcTenant getTenant(String id) {
+        return tenants.get(id);
+    }
+
+    /**
+     * <p>
+     * Remove um {@link IxcTenant} do contexto e o fecha, liberando as conexões e as threads do seu
+     * {@link IxcTransport}.
+     * </p>
+     *
+     * @param id O identificador do tenant.
+     * @return O {@link IxcTenant} removido do contexto, já fechado, ou <b>null</b> se não existir.
+     */
+    public IxcTenant removeTenant(String id) {
+        IxcTenant tenant = tenants.remove(id);
+        if (tenant != null) {
+            tenant.close();
+        }
+        return tenant;
+    }
+
+    /**
+     * <p>
+     * Define a implementação de {@link IxcMetrics} que recebe as medições das requisições, da leitura do JSON das
+     * respostas e do mapeamento dos registros. Quando nenhuma implementação é definida, nenhuma medição é feita.
+     * </p>
+     *
+     * @param metrics Uma implementação de {@link IxcMetrics}, como {@link br.dev.fscarmo.ixcorm.api.InMemoryMetrics},
+     *                ou <b>null</b> para desabilitar as medições.
+     */
+    public void setMetrics(IxcMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return A implementação de {@link IxcMetrics} definida por <b>setMetrics(IxcMetrics metrics)</b>, ou <b>null</b>
+     *         se as medições estiverem desabilitadas.
+     */
+    public IxcMetrics getMetrics() {
+        return metrics;
+    }
 }
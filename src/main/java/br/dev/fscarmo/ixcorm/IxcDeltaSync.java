@@ -0,0 +1,291 @@
+package br.dev.fscarmo.ixcorm;
+
+
+import br.dev.fscarmo.ixcorm.api.CheckpointStore;
+import br.dev.fscarmo.ixcorm.api.records.Pagination;
+import br.dev.fscarmo.ixcorm.api.records.SyncCheckpoint;
+import br.dev.fscarmo.ixcorm.enums.Sort;
+import br.dev.fscarmo.ixcorm.exception.DeltaSyncException;
+import br.dev.fscarmo.ixcorm.exception.NetworkConnectionException;
+import com.google.gson.JsonElement;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * <p>
+ * A classe 'IxcDeltaSync' sincroniza, de forma incremental, os registros de uma tabela do IXC Provedor. Cada execução
+ * de <b>run(Consumer< T > consumer)</b> entrega apenas os registros alterados desde a execução anterior, de acordo com
+ * uma coluna de última alteração (por padrão, <b>ultima_atualizacao</b>), de modo que o custo da sincronização
+ * acompanha a quantidade de alterações, e não o tamanho da tabela.
+ * </p>
+ *
+ * <p>
+ * O maior valor já entregue da coluna (a <i>watermark</i>) é persistido, junto com os ids dos registros que possuem
+ * esse mesmo valor, por um {@link CheckpointStore}. A consulta seguinte filtra os registros com valor maior ou igual à
+ * watermark, ordenados pela coluna, e descarta os ids já entregues. Assim, registros alterados no mesmo segundo da
+ * última sincronização não são perdidos nem entregues em duplicidade.
+ * </p>
+ *
+ * <p>
+ * Em vez de avançar pelo número da página, cada página é consultada novamente a partir da última watermark, para que
+ * registros alterados durante a sincronização não desloquem as páginas seguintes. O checkpoint é gravado ao final de
+ * cada página: se o consumidor falhar, os registros da página interrompida são entregues novamente na próxima
+ * execução.
+ * </p>
+ *
+ * {@snippet lang = java:
+ * IxcDeltaSync<ClienteRecord> sync = IxcDeltaSync
+ *         .newBuilder("cliente", Cliente::new, ClienteRecord.class)
+ *         .checkpoints(Path.of("/var/lib/espelho"))
+ *         .build();
+ *
+ * int alterados = sync.run(cliente -> repositorio.salvar(cliente));
+ * }
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.1
+ * @since 2026-10-17
+ *
+ * @param <T> Qualquer subclasse de {@link IxcRecord}.
+ */
+public class IxcDeltaSync<T extends IxcRecord> {
+
+    private final String name;
+    private final Supplier<? extends IxcOrm> query;
+    private final Class<T> mapper;
+    private final String column;
+    private final int pageSize;
+    private final CheckpointStore store;
+
+    private IxcDeltaSync(Builder<T> builder) {
+        this.name = builder.name;
+        this.query = builder.query;
+        this.mapper = builder.mapper;
+        this.column = builder.column;
+        this.pageSize = builder.pageSize;
+        this.store = builder.store;
+    }
+
+    /**
+     * @param name O nome da sincronização, que identifica o seu checkpoint. Deve conter apenas letras, números, '_',
+     *             '.' e '-'.
+     * @param query Cria, a cada página, uma nova instância de {@link IxcOrm} da tabela, com os filtros adicionais da
+     *              sincronização, se houver.
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @return Uma nova instância de {@link Builder}.
+     */
+    public static <T extends IxcRecord> Builder<T> newBuilder(String name, Supplier<? extends IxcOrm> query,
+                                                              Class<T> mapper) {
+        return new Builder<>(name, query, mapper);
+    }
+
+    /**
+     * @return O nome da sincronização.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return O {@link SyncCheckpoint} gravado, ou <b>null</b> se a sincronização ainda não foi executada.
+     * @throws DeltaSyncException Se o checkpoint não puder ser lido.
+     */
+    public SyncCheckpoint getCheckpoint() throws DeltaSyncException {
+        return store.load(name);
+    }
+
+    /**
+     * <p>
+     * Remove o checkpoint, fazendo com que a próxima execução entregue todos os registros da tabela.
+     * </p>
+     *
+     * @throws DeltaSyncException Se o checkpoint não puder ser removido.
+     */
+    public void reset() throws DeltaSyncException {
+        store.delete(name);
+    }
+
+    /**
+     * <p>
+     * Entrega ao <b>consumer</b>, em ordem crescente da coluna de última alteração, os registros alterados desde a
+     * última execução, e grava o novo checkpoint ao final de cada página.
+     * </p>
+     *
+     * @param consumer Recebe cada registro alterado.
+     * @return A quantidade de registros entregues.
+     * @throws NetworkConnectionException Se ocorrer alguma falha na comunicação com o IXC Provedor.
+     * @throws DeltaSyncException Se o IXC Provedor responder com erro, ou se o checkpoint não puder ser gravado.
+     */
+    public int run(Consumer<? super T> consumer) throws NetworkConnectionException, DeltaSyncException {
+        SyncCheckpoint checkpoint = store.load(name);
+        String watermark = (checkpoint != null) ? checkpoint.watermark() : null;
+        Set<Integer> boundaryIds = (checkpoint != null) ? new HashSet<>(checkpoint.boundaryIds()) : new HashSet<>();
+
+        int emitted = 0;
+        int page = 1;
+        while (true) {
+            String previous = watermark;
+            int delivered = 0;
+            int count;
+
+            try (IxcResponseStream<T> records = fetch(watermark, page)) {
+                while (records.hasNext()) {
+                    T record = records.next();
+                    String value = valueOf(record);
+                    Integer id = record.getId();
+
+                    if (value != null) {
+                        int comparison = (watermark != null) ? compare(value, watermark) : 1;
+                        if (comparison < 0 || (comparison == 0 && id != null && !boundaryIds.add(id))) {
+                            continue;
+                        }
+                        if (comparison > 0) {
+                            watermark = value;
+                            boundaryIds.clear();
+                            if (id != null) {
+                                boundaryIds.add(id);
+                            }
+                        }
+                    }
+                    consumer.accept(record);
+                    delivered++;
+                }
+                count = records.getCount();
+                if (records.isError()) {
+                    throw new DeltaSyncException(name, records.getMessage());
+                }
+            }
+
+            if (delivered > 0) {
+                store.save(name, new SyncCheckpoint(watermark, boundaryIds));
+                emitted += delivered;
+            }
+            if (count < pageSize) {
+                return emitted;
+            }
+            page = Objects.equals(previous, watermark) ? page + 1 : 1;
+        }
+    }
+
+    private IxcResponseStream<T> fetch(String watermark, int page) {
+        IxcOrm orm = query.get();
+        if (watermark != null) {
+            orm.where(column).greaterThanEquals(watermark);
+        }
+        orm.orderBy(Sort.ASC, column).setPagination(new Pagination(page, pageSize));
+
+        IxcResponseStream<T> records = orm.GETStream(mapper);
+        if (records.isError()) {
+            records.close();
+            throw new DeltaSyncException(name, records.getMessage());
+        }
+        return records;
+    }
+
+    private String valueOf(T record) {
+        JsonElement element = record.getJsonElement(column);
+        if (element == null || !element.isJsonPrimitive()) {
+            return null;
+        }
+        String value = element.getAsString();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static int compare(String a, String b) {
+        BigDecimal left = toNumber(a);
+        BigDecimal right = toNumber(b);
+        return (left != null && right != null) ? left.compareTo(right) : a.compareTo(b);
+    }
+
+    private static BigDecimal toNumber(String value) {
+        try {
+            return new BigDecimal(value);
+        }
+        catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * A classe 'Builder' constrói uma instância de {@link IxcDeltaSync}.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     *
+     * @param <T> Qualquer subclasse de {@link IxcRecord}.
+     */
+    public static class Builder<T extends IxcRecord> {
+
+        private final String name;
+        private final Supplier<? extends IxcOrm> query;
+        private final Class<T> mapper;
+        private String column;
+        private int pageSize;
+        private CheckpointStore store;
+
+        private Builder(String name, Supplier<? extends IxcOrm> query, Class<T> mapper) {
+            this.name = name;
+            this.query = query;
+            this.mapper = mapper;
+            this.column = "ultima_atualizacao";
+            this.pageSize = 500;
+            this.store = new CheckpointStore(Path.of(".ixc-sync"));
+        }
+
+        /**
+         * @param column A coluna de última alteração dos registros. O padrão é <b>ultima_atualizacao</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder<T> column(String column) {
+            if (column != null && !column.isBlank()) {
+                this.column = column;
+            }
+            return this;
+        }
+
+        /**
+         * @param pageSize A quantidade de registros por página. O padrão é 500.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder<T> pageSize(int pageSize) {
+            this.pageSize = Math.max(1, pageSize);
+            return this;
+        }
+
+        /**
+         * @param directory O diretório onde o checkpoint é gravado. O padrão é <b>.ixc-sync</b>, no diretório atual.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder<T> checkpoints(Path directory) {
+            return checkpoints(new CheckpointStore(directory));
+        }
+
+        /**
+         * @param store O {@link CheckpointStore} onde o checkpoint é gravado.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder<T> checkpoints(CheckpointStore store) {
+            if (store != null) {
+                this.store = store;
+            }
+            return this;
+        }
+
+        /**
+         * @return Uma nova instância de {@link IxcDeltaSync}.
+         */
+        public IxcDeltaSync<T> build() {
+            return new IxcDeltaSync<>(this);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package br.dev.fscarmo.ixcorm;
+
+
+import br.dev.fscarmo.ixcorm.enums.ExportFormat;
+import br.dev.fscarmo.ixcorm.exception.ExportException;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * <p>
+ * A classe 'IxcExport' grava os registros de uma consulta em um arquivo NDJSON (um objeto JSON por linha) ou CSV,
+ * opcionalmente compactado com gzip. Cada registro é escrito no momento em que é lido do {@link Stream}, através de
+ * um buffer sobre um {@link FileChannel}, de modo que a memória utilizada não depende da quantidade de registros
+ * exportados.
+ * </p>
+ *
+ * <p>
+ * Os registros são gravados em um arquivo temporário, no mesmo diretório, que só substitui o arquivo de destino,
+ * através de uma movimentação atômica, depois que todos os registros foram escritos e persistidos no disco. Se a
+ * leitura de alguma página falhar, o arquivo temporário é descartado e o arquivo de destino não é alterado. Assim,
+ * as ferramentas que leem o arquivo nunca encontram uma exportação incompleta.
+ * </p>
+ *
+ * <p>
+ * Quando nenhuma coluna é informada, o NDJSON contém todas as propriedades de cada registro, e o CSV utiliza as
+ * propriedades do primeiro registro como colunas. Com um mapper anotado com {@link LazyRecord}, nenhuma propriedade
+ * precisa ser convertida para os campos da classe durante a exportação.
+ * </p>
+ *
+ * {@snippet lang = java:
+ * IxcExport export = IxcExport.newBuilder(ExportFormat.CSV)
+ *         .columns("id", "id_cliente", "valor", "data_vencimento")
+ *         .gzip(true)
+ *         .keyset(true)
+ *         .build();
+ *
+ * long linhas = new Areceber()
+ *         .where("status").exactly("A")
+ *         .setPagination(new Pagination(1, 1000))
+ *         .export(AreceberRecord.class, export, Path.of("abertos.csv.gz"));
+ * }
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.2
+ * @since 2026-10-17
+ */
+public class IxcExport {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final boolean gzip;
+    private final char delimiter;
+    private final boolean header;
+    private final boolean keyset;
+
+    private IxcExport(Builder builder) {
+        this.format = builder.format;
+        this.columns = builder.columns;
+        this.gzip = builder.gzip;
+        this.delimiter = builder.delimiter;
+        this.header = builder.header;
+        this.keyset = builder.keyset;
+    }
+
+    /**
+     * @param format O formato do arquivo exportado.
+     * @return Uma nova instância de {@link Builder}.
+     */
+    public static Builder newBuilder(ExportFormat format) {
+        return new Builder(format);
+    }
+
+    /**
+     * @return O formato do arquivo exportado.
+     */
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return <b>true</b> se <b>IxcOrm.export(...)</b> deve ler os registros com paginação <i>keyset</i>.
+     */
+    public boolean isKeyset() {
+        return keyset;
+    }
+
+    /**
+     * <p>
+     * Grava todos os registros do {@link Stream} no arquivo, substituindo o seu conteúdo anterior. O {@link Stream} é
+     * fechado ao final da exportação. Qualquer exceção lançada pelo {@link Stream}, como a
+     * {@link br.dev.fscarmo.ixcorm.exception.ListingException} de uma página de falha, é relançada sem que o arquivo
+     * de destino seja alterado.
+     * </p>
+     *
+     * @param records Os registros a serem exportados.
+     * @param file O arquivo de destino.
+     * @return A quantidade de registros exportados.
+     * @throws ExportException Se o arquivo não puder ser gravado.
+     */
+    public long write(Stream<? extends IxcRecord> records, Path file) throws ExportException {
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".part");
+
+        try (records) {
+            long count;
+            try (Writer writer = open(temp)) {
+                count = write(records.iterator(), writer);
+            }
+            force(temp);
+            move(temp, absolute);
+            return count;
+        }
+        catch (IOException | UncheckedIOException e) {
+            deleteQuietly(temp);
+            throw new ExportException(file);
+        }
+        catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    private long write(Iterator<? extends IxcRecord> records, Writer writer) throws IOException {
+        List<String> selected = columns;
+        long count = 0;
+        while (records.hasNext()) {
+            IxcRecord record = records.next();
+            if (format == ExportFormat.NDJSON) {
+                writer.write((selected != null) ? select(record, selected).toString() : record.toString());
+            }
+            else {
+                if (selected == null) {
+                    selected = propertiesOf(record);
+                }
+                if (count == 0 && header) {
+                    writeCsvLine(writer, selected);
+                    writer.write('\n');
+                }
+                writeCsvLine(writer, valuesOf(record, selected));
+            }
+            writer.write('\n');
+            count++;
+        }
+        if (count == 0 && format == ExportFormat.CSV && header && selected != null) {
+            writeCsvLine(writer, selected);
+            writer.write('\n');
+        }
+        return count;
+    }
+
+    private static JsonObject select(IxcRecord record, List<String> columns) {
+        JsonObject selected = new JsonObject();
+        for (String column : columns) {
+            JsonElement value = record.getJsonElement(column);
+            selected.add(column, (value != null) ? value : JsonNull.INSTANCE);
+        }
+        return selected;
+    }
+
+    private static List<String> propertiesOf(IxcRecord record) {
+        return List.copyOf(JsonParser.parseString(record.toString()).getAsJsonObject().keySet());
+    }
+
+    private static List<String> valuesOf(IxcRecord record, List<String> columns) {
+        String[] values = new String[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            JsonElement value = record.getJsonElement(columns.get(i));
+            if (value != null && !value.isJsonNull()) {
+                values[i] = value.isJsonPrimitive() ? value.getAsString() : value.toString();
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    private void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(delimiter);
+            }
+            writeCsvValue(writer, values.get(i));
+        }
+    }
+
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char c = value.charAt(i);
+            quoted = c == delimiter || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private Writer open(Path temp) throws IOException {
+        FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            OutputStream out = Channels.newOutputStream(channel);
+            if (gzip) {
+                out = new GZIPOutputStream(out, BUFFER_SIZE);
+            }
+            return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+        catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * <p>
+     * A classe 'Builder' constrói uma instância de {@link IxcExport}.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     */
+    public static class Builder {
+
+        private final ExportFormat format;
+        private List<String> columns;
+        private boolean gzip;
+        private char delimiter;
+        private boolean header;
+        private boolean keyset;
+
+        private Builder(ExportFormat format) {
+            this.format = (format != null) ? format : ExportFormat.NDJSON;
+            this.columns = null;
+            this.gzip = false;
+            this.delimiter = ',';
+            this.header = true;
+            this.keyset = false;
+        }
+
+        /**
+         * @param columns As propriedades exportadas de cada registro, na ordem das colunas do CSV. Por padrão, todas as
+         *                propriedades são exportadas.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder columns(String... columns) {
+            this.columns = (columns != null && columns.length > 0) ? List.of(columns) : null;
+            return this;
+        }
+
+        /**
+         * @param gzip Se <b>true</b>, o arquivo é compactado com gzip. O padrão é <b>false</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder gzip(boolean gzip) {
+            this.gzip = gzip;
+            return this;
+        }
+
+        /**
+         * @param delimiter O separador das colunas do CSV. O padrão é ','.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder delimiter(char delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * @param header Se <b>true</b>, a primeira linha do CSV contém os nomes das colunas. O padrão é <b>true</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder header(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * <p>
+         * Define se <b>IxcOrm.export(...)</b> deve ler os registros com <b>keysetStream(Class< T > mapper)</b>, em vez
+         * de <b>stream(Class< T > mapper)</b>. A paginação <i>keyset</i> mantém o tempo de resposta de cada página
+         * constante em exportações muito grandes, mas os registros são exportados em ordem crescente de id,
+         * independente de <b>orderBy(...)</b>.
+         * </p>
+         *
+         * @param keyset Se <b>true</b>, os registros são lidos com paginação <i>keyset</i>. O padrão é <b>false</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder keyset(boolean keyset) {
+            this.keyset = keyset;
+            return this;
+        }
+
+        /**
+         * @return Uma nova instância de {@link IxcExport}.
+         */
+        public IxcExport build() {
+            return new IxcExport(this);
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package br.dev.fscarmo.ixcorm;
+
+
+import br.dev.fscarmo.ixcorm.enums.Operator;
+import com.google.gson.JsonElement;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * <p>
+ * A classe 'IxcIndexedList' é uma lista imutável de registros já obtidos do IXC Provedor, com índices secundários em
+ * memória sobre as colunas escolhidas no {@link Builder}. As consultas locais usam os mesmos métodos e a mesma
+ * semântica de {@link Operator} das consultas feitas por {@link IxcOrm}, mas são respondidas sem nenhuma requisição e
+ * sem percorrer a lista inteira.
+ * </p>
+ *
+ * <p>
+ * Um índice <i>hash</i> atende às comparações de igualdade (=), e um índice ordenado atende, além da igualdade, às
+ * comparações de intervalo (<, <=, > e >=). Quando mais de um filtro é informado, o filtro indexado mais seletivo
+ * define os registros candidatos, e os demais filtros são verificados apenas sobre eles. Filtros sobre colunas não
+ * indexadas, e o operador LIKE, percorrem os registros.
+ * </p>
+ *
+ * <p>
+ * Assim como na API do IXC Provedor, os valores são comparados numericamente quando ambos são números, e como texto
+ * nos demais casos. Registros sem valor na coluna não atendem a nenhum filtro sobre ela. Os registros encontrados são
+ * sempre retornados na ordem original da lista.
+ * </p>
+ *
+ * {@snippet lang = java:
+ * List<ClienteRecord> registros = new Cliente().stream(ClienteRecord.class).toList();
+ *
+ * IxcIndexedList<ClienteRecord> clientes = IxcIndexedList.newBuilder(registros)
+ *         .hashIndex("id_cidade")
+ *         .sortedIndex("data_cadastro")
+ *         .build();
+ *
+ * List<ClienteRecord> recentes = clientes
+ *         .where("id_cidade").exactly(3101)
+ *         .where("data_cadastro").greaterThanEquals("2026-01-01")
+ *         .list();
+ * }
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ *
+ * @param <T> Qualquer subclasse de {@link IxcRecord}.
+ */
+public class IxcIndexedList<T extends IxcRecord> extends AbstractList<T> implements RandomAccess {
+
+    private static final Comparator<Object> KEY_ORDER = IxcIndexedList::compareKeys;
+
+    private final List<T> records;
+    private final Map<String, Map<Object, int[]>> hashIndexes;
+    private final Map<String, NavigableMap<Object, int[]>> sortedIndexes;
+
+    private IxcIndexedList(Builder<T> builder) {
+        this.records = List.copyOf(builder.records);
+        this.hashIndexes = new HashMap<>();
+        this.sortedIndexes = new HashMap<>();
+        for (String column : builder.hashColumns) {
+            hashIndexes.put(column, group(column));
+        }
+        for (String column : builder.sortedColumns) {
+            NavigableMap<Object, int[]> sorted = new TreeMap<>(KEY_ORDER);
+            sorted.putAll(group(column));
+            sortedIndexes.put(column, sorted);
+        }
+    }
+
+    /**
+     * @param records Os registros da lista, na ordem em que serão retornados.
+     * @return Uma nova instância de {@link Builder}.
+     */
+    public static <T extends IxcRecord> Builder<T> newBuilder(Collection<T> records) {
+        return new Builder<>(records);
+    }
+
+    @Override
+    public T get(int index) {
+        return records.get(index);
+    }
+
+    @Override
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * <p>
+     * Inicia uma nova consulta local, com um filtro sobre a coluna informada.
+     * </p>
+     *
+     * @param column A coluna que será usada como filtro.
+     * @return Uma nova instância de {@link Selection}.
+     */
+    public Selection where(String column) {
+        return new Selection().where(column);
+    }
+
+    /**
+     * @return As posições, em ordem crescente, dos registros de cada valor da coluna.
+     */
+    private Map<Object, int[]> group(String column) {
+        Object[] keys = new Object[records.size()];
+        Map<Object, Integer> sizes = new HashMap<>();
+        for (int row = 0; row < keys.length; row++) {
+            String value = valueOf(records.get(row), column);
+            if (value != null) {
+                keys[row] = toKey(value);
+                sizes.merge(keys[row], 1, Integer::sum);
+            }
+        }
+
+        Map<Object, int[]> index = new HashMap<>();
+        Map<Object, Integer> filled = new HashMap<>();
+        for (int row = 0; row < keys.length; row++) {
+            if (keys[row] != null) {
+                int[] rows = index.computeIfAbsent(keys[row], key -> new int[sizes.get(key)]);
+                rows[filled.merge(keys[row], 1, Integer::sum) - 1] = row;
+            }
+        }
+        return index;
+    }
+
+    private static String valueOf(IxcRecord record, String column) {
+        JsonElement element = record.getJsonElement(column);
+        return (element != null && element.isJsonPrimitive()) ? element.getAsString() : null;
+    }
+
+    /**
+     * <p>
+     * Converte um valor para a chave utilizada nos índices: um {@link BigDecimal} normalizado, quando o valor é um
+     * número, ou o próprio texto, nos demais casos.
+     * </p>
+     */
+    private static Object toKey(String value) {
+        try {
+            return new BigDecimal(value.trim()).stripTrailingZeros();
+        }
+        catch (NumberFormatException e) {
+            return value;
+        }
+    }
+
+    /**
+     * <p>
+     * Ordena as chaves numéricas antes das chaves de texto, comparando os números pelo seu valor e os textos pela ordem
+     * lexicográfica.
+     * </p>
+     */
+    private static int compareKeys(Object a, Object b) {
+        if (a instanceof BigDecimal left) {
+            return (b instanceof BigDecimal right) ? left.compareTo(right) : -1;
+        }
+        return (b instanceof BigDecimal) ? 1 : ((String) a).compareTo((String) b);
+    }
+
+    private record Condition(String column, Operator operator, Object key, String text) {
+
+        boolean test(IxcRecord record) {
+            String value = valueOf(record, column);
+            if (value == null) {
+                return false;
+            }
+            if (operator == Operator.LIKE) {
+                return value.toLowerCase(Locale.ROOT).contains(text);
+            }
+            int comparison = compareKeys(toKey(value), key);
+            return switch (operator) {
+                case EQUALS -> comparison == 0;
+                case LESS_THAN -> comparison < 0;
+                case LESS_THAN_EQUALS -> comparison <= 0;
+                case GREATER_THAN -> comparison > 0;
+                case GREATER_THAN_EQUALS -> comparison >= 0;
+                case LIKE -> false;
+            };
+        }
+    }
+
+    /**
+     * <p>
+     * A classe 'Selection' acumula os filtros de uma consulta local sobre um {@link IxcIndexedList}. Assim como em
+     * {@link IxcOrm}, cada filtro é iniciado por <b>where(String column)</b> e concluído por um dos métodos de
+     * comparação. Todos os filtros devem ser atendidos por um registro para que ele seja retornado.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     */
+    public class Selection {
+
+        private final List<Condition> conditions;
+        private String column;
+
+        private Selection() {
+            conditions = new ArrayList<>();
+        }
+
+        /**
+         * @param column A coluna que será usada como filtro.
+         * @return A própria instância de {@link Selection}.
+         */
+        public Selection where(String column) {
+            this.column = column;
+            return this;
+        }
+
+        /**
+         * @param value O valor da coluna, que deve ser igual ao do registro.
+         * @return A própria instância de {@link Selection}.
+         */
+        public Selection exactly(Object value) {
+            return add(Operator.EQUALS, value);
+        }
+
+        /**
+         * @param value Um texto que deve estar contido no valor da coluna, sem diferenciar maiúsculas e minúsculas.
+         * @return A própria instância de {@link Selection}.
+         */
+        public Selection like(Object value) {
+            return add(Operator.LIKE, value);
+        }
+
+        /**
+         * @param value O valor que deve ser maior que o da coluna.
+         * @return A própria instância de {@link Selection}.
+         */
+        public Selection lessThan(Object value) {
+            return add(Operator.LESS_THAN, value);
+        }
+
+        /**
+         * @param value O valor que deve ser maior ou igual ao da coluna.
+         * @return A própria instância de {@link Selection}.
+         */
+        public Selection lessThanEquals(Object value) {
+            return add(Operator.LESS_THAN_EQUALS, value);
+        }
+
+        /**
+         * @param value O valor que deve ser menor que o da coluna.
+         * @return A própria instância de {@link Selection}.
+         */
+        public Selection greaterThan(Object value) {
+            return add(Operator.GREATER_THAN, value);
+        }
+
+        /**
+         * @param value O valor que deve ser menor ou igual ao da coluna.
+         * @return A própria instância de {@link Selection}.
+         */
+        public Selection greaterThanEquals(Object value) {
+            return add(Operator.GREATER_THAN_EQUALS, value);
+        }
+
+        /**
+         * @return Os registros que atendem a todos os filtros, na ordem original da lista.
+         */
+        public List<T> list() {
+            return rows().mapToObj(records::get).toList();
+        }
+
+        /**
+         * @return Um {@link Stream} sequencial com os registros que atendem a todos os filtros.
+         */
+        public Stream<T> stream() {
+            return rows().mapToObj(records::get);
+        }
+
+        /**
+         * @return O primeiro registro que atende a todos os filtros.
+         */
+        public Optional<T> first() {
+            return stream().findFirst();
+        }
+
+        /**
+         * @return A quantidade de registros que atendem a todos os filtros.
+         */
+        public int count() {
+            return (int) rows().count();
+        }
+
+        private Selection add(Operator operator, Object value) {
+            if (column == null) {
+                throw new IllegalStateException("O filtro deve ser iniciado por where(String column)");
+            }
+            String text = String.valueOf(value);
+            conditions.add(new Condition(column, operator, toKey(text), text.toLowerCase(Locale.ROOT)));
+            column = null;
+            return this;
+        }
+
+        private IntStream rows() {
+            Candidates best = null;
+            for (Candidates candidates : indexedCandidates()) {
+                if (best == null || candidates.size() < best.size()) {
+                    best = candidates;
+                }
+            }
+
+            List<Condition> remaining = new ArrayList<>(conditions);
+            IntStream rows = IntStream.range(0, records.size());
+            if (best != null) {
+                remaining.removeAll(best.covered());
+                rows = Arrays.stream(best.toRows());
+            }
+            return remaining.isEmpty()
+                    ? rows
+                    : rows.filter(row -> remaining.stream().allMatch(c -> c.test(records.get(row))));
+        }
+
+        /**
+         * <p>
+         * Obtém, de cada índice que pode atender aos filtros, os grupos de registros candidatos, sem ainda reuni-los.
+         * Todos os filtros de intervalo sobre uma mesma coluna com índice ordenado são combinados em um único
+         * intervalo.
+         * </p>
+         */
+        private List<Candidates> indexedCandidates() {
+            List<Candidates> candidates = new ArrayList<>();
+            Map<String, List<Condition>> ranges = new HashMap<>();
+
+            for (Condition condition : conditions) {
+                Map<Object, int[]> hash = hashIndexes.get(condition.column());
+                if (hash != null && condition.operator() == Operator.EQUALS) {
+                    int[] rows = hash.getOrDefault(condition.key(), new int[0]);
+                    candidates.add(new Candidates(List.of(rows), rows.length, List.of(condition)));
+                }
+                else if (sortedIndexes.containsKey(condition.column()) && condition.operator() != Operator.LIKE) {
+                    ranges.computeIfAbsent(condition.column(), column -> new ArrayList<>()).add(condition);
+                }
+            }
+
+            ranges.forEach((column, covered) -> {
+                Collection<int[]> groups = range(sortedIndexes.get(column), covered).values();
+                long size = 0;
+                for (int[] group : groups) {
+                    size += group.length;
+                }
+                candidates.add(new Candidates(groups, size, covered));
+            });
+            return candidates;
+        }
+
+        private NavigableMap<Object, int[]> range(NavigableMap<Object, int[]> index, List<Condition> covered) {
+            Object lower = null;
+            Object upper = null;
+            boolean lowerInclusive = false;
+            boolean upperInclusive = false;
+
+            for (Condition condition : covered) {
+                Object key = condition.key();
+                Operator operator = condition.operator();
+                boolean inclusive = operator != Operator.GREATER_THAN && operator != Operator.LESS_THAN;
+
+                if (operator != Operator.LESS_THAN && operator != Operator.LESS_THAN_EQUALS) {
+                    int comparison = (lower == null) ? 1 : compareKeys(key, lower);
+                    if (comparison > 0 || (comparison == 0 && !inclusive)) {
+                        lower = key;
+                        lowerInclusive = inclusive;
+                    }
+                }
+                if (operator != Operator.GREATER_THAN && operator != Operator.GREATER_THAN_EQUALS) {
+                    int comparison = (upper == null) ? -1 : compareKeys(key, upper);
+                    if (comparison < 0 || (comparison == 0 && !inclusive)) {
+                        upper = key;
+                        upperInclusive = inclusive;
+                    }
+                }
+            }
+
+            if (lower != null && upper != null) {
+                int comparison = compareKeys(lower, upper);
+                if (comparison > 0 || (comparison == 0 && !(lowerInclusive && upperInclusive))) {
+                    return new TreeMap<>(KEY_ORDER);
+                }
+                return index.subMap(lower, lowerInclusive, upper, upperInclusive);
+            }
+            if (lower != null) {
+                return index.tailMap(lower, lowerInclusive);
+            }
+            return (upper != null) ? index.headMap(upper, upperInclusive) : index;
+        }
+    }
+
+    /**
+     * <p>
+     * Os grupos de registros obtidos de um índice, a quantidade total de registros nesses grupos e os filtros que eles
+     * já atendem.
+     * </p>
+     */
+    private record Candidates(Collection<int[]> groups, long size, List<Condition> covered) {
+
+        /**
+         * @return As posições, em ordem crescente, de todos os registros dos grupos.
+         */
+        int[] toRows() {
+            if (groups.size() == 1) {
+                return groups.iterator().next();
+            }
+            int[] rows = new int[(int) size];
+            int position = 0;
+            for (int[] group : groups) {
+                System.arraycopy(group, 0, rows, position, group.length);
+                position += group.length;
+            }
+            Arrays.sort(rows);
+            return rows;
+        }
+    }
+
+    /**
+     * <p>
+     * A classe 'Builder' define as colunas indexadas de um {@link IxcIndexedList}.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     *
+     * @param <T> Qualquer subclasse de {@link IxcRecord}.
+     */
+    public static class Builder<T extends IxcRecord> {
+
+        private final Collection<T> records;
+        private final List<String> hashColumns;
+        private final List<String> sortedColumns;
+
+        private Builder(Collection<T> records) {
+            this.records = records;
+            this.hashColumns = new ArrayList<>();
+            this.sortedColumns = new ArrayList<>();
+        }
+
+        /**
+         * @param column Uma coluna consultada por igualdade, como <b>id_cidade</b> ou <b>status</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder<T> hashIndex(String column) {
+            hashColumns.add(column);
+            return this;
+        }
+
+        /**
+         * @param column Uma coluna consultada por intervalos, como <b>data_vencimento</b> ou <b>valor</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder<T> sortedIndex(String column) {
+            sortedColumns.add(column);
+            return this;
+        }
+
+        /**
+         * @return Uma nova instância de {@link IxcIndexedList}, com os índices construídos.
+         */
+        public IxcIndexedList<T> build() {
+            return new IxcIndexedList<>(this);
+        }
+    }
+}
@@ -0,0 +1,571 @@
+package br.dev.fscarmo.ixcorm;
+
+
+import br.dev.fscarmo.ixcorm.api.IxcRecordFactory;
+import br.dev.fscarmo.ixcorm.exception.MirrorStoreException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.io.StringReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * <p>
+ * A classe 'IxcMirror' mantém uma réplica local dos registros de uma tabela do IXC Provedor, em um arquivo binário
+ * compacto, somente de inclusão (<i>append-only</i>), lido através de memória mapeada. Depois de carregada, a réplica
+ * atende consultas por id e por coluna em microssegundos, sem nenhuma requisição ao IXC Provedor, e continua
+ * disponível após o reinício da aplicação.
+ * </p>
+ *
+ * <p>
+ * Cada registro é gravado ao final do arquivo, com o seu id e o seu JSON em UTF-8. Gravar novamente um id apenas
+ * adiciona uma nova versão do registro, que passa a ser a versão consultada; as versões anteriores são descartadas
+ * por <b>compact()</b>. Ao abrir o arquivo, o índice de ids é reconstruído a partir dos cabeçalhos dos registros, sem
+ * que o JSON seja decodificado.
+ * </p>
+ *
+ * <p>
+ * O arquivo é mapeado em segmentos de até 64 MB, e um registro nunca é dividido entre dois segmentos. O último
+ * segmento é mapeado apenas até o tamanho necessário, crescendo conforme os registros são gravados, e o arquivo é
+ * reduzido ao tamanho dos dados gravados quando o espelho é fechado. O cabeçalho do arquivo guarda a posição final
+ * dos dados gravados, atualizada somente após a gravação de cada registro, de modo que uma interrupção do processo
+ * durante a gravação descarta apenas o registro incompleto.
+ * </p>
+ *
+ * <p>
+ * Depois de <b>close()</b>, qualquer operação sobre a instância lança uma {@link IllegalStateException}.
+ * </p>
+ *
+ * {@snippet lang = java:
+ * try (IxcMirror clientes = new IxcMirror(Path.of("/var/lib/espelho/cliente.mirror"))) {
+ *     clientes.putAll(new Cliente().stream(ClienteRecord.class));
+ *
+ *     String razao = clientes.getValue(1234, "razao");
+ *     ClienteRecord cliente = clientes.get(1234, ClienteRecord.class);
+ * }
+ * }
+ *
+ * <p>
+ * Combinado com {@link IxcDeltaSync}, o espelho pode ser mantido atualizado apenas com os registros alterados:
+ * <b>sync.run(clientes::put)</b>.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class IxcMirror implements AutoCloseable {
+
+    private static final int MAGIC = 0x4958434D;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int END_OFFSET = 8;
+    private static final int ENTRY_HEADER_SIZE = 8;
+    private static final int TOMBSTONE = -1;
+    private static final int PADDING = 0;
+    private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+    private static final long MIN_MAPPING_SIZE = 64L * 1024;
+    private static final MethodHandle UNMAPPER = findUnmapper();
+
+    private final Path file;
+    private final ReadWriteLock lock;
+    private final Map<Class<?>, IxcRecordFactory<?>> factories;
+    private volatile Map<Integer, Long> index;
+    private volatile FileChannel channel;
+    private List<MappedByteBuffer> segments;
+    private long end;
+
+    /**
+     * <p>
+     * Abre o espelho gravado em <b>file</b>, criando o arquivo se ele ainda não existir.
+     * </p>
+     *
+     * @param file O arquivo do espelho.
+     * @throws MirrorStoreException Se o arquivo não puder ser aberto, ou não for um arquivo de espelho.
+     */
+    public IxcMirror(Path file) throws MirrorStoreException {
+        this.file = file;
+        this.lock = new ReentrantReadWriteLock();
+        this.factories = new ConcurrentHashMap<>();
+        open();
+    }
+
+    /**
+     * @return O arquivo do espelho.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return A quantidade de registros no espelho.
+     */
+    public int size() {
+        checkOpen();
+        return index.size();
+    }
+
+    /**
+     * @param id O id do registro.
+     * @return <b>true</b> se o registro existe no espelho.
+     */
+    public boolean contains(int id) {
+        checkOpen();
+        return index.containsKey(id);
+    }
+
+    /**
+     * @return Um {@link IntStream} com os ids de todos os registros do espelho, sem ordem definida.
+     */
+    public IntStream ids() {
+        checkOpen();
+        return index.keySet().stream().mapToInt(Integer::intValue);
+    }
+
+    /**
+     * @param id O id do registro.
+     * @return Um {@link JsonObject} com todas as propriedades do registro, ou <b>null</b> se ele não existir.
+     */
+    public JsonObject getJson(int id) {
+        byte[] payload = read(id);
+        return (payload != null) ? JsonParser.parseReader(toReader(payload)).getAsJsonObject() : null;
+    }
+
+    /**
+     * @param id O id do registro.
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @return O registro mapeado para o tipo "<b>T</b>", ou <b>null</b> se ele não existir.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends IxcRecord> T get(int id, Class<T> mapper) {
+        JsonObject json = getJson(id);
+        if (json == null) {
+            return null;
+        }
+        IxcRecordFactory<T> factory = (IxcRecordFactory<T>) factories.computeIfAbsent(mapper,
+                c -> new IxcRecordFactory<>(mapper));
+        return factory.newRecord(json);
+    }
+
+    /**
+     * <p>
+     * Lê uma única propriedade do registro, percorrendo o JSON gravado apenas até encontrá-la.
+     * </p>
+     *
+     * @param id O id do registro.
+     * @param column O nome da propriedade.
+     * @return O valor da propriedade como texto, ou <b>null</b> se o registro ou a propriedade não existirem.
+     * @throws MirrorStoreException Se o registro gravado não puder ser lido.
+     */
+    public String getValue(int id, String column) throws MirrorStoreException {
+        byte[] payload = read(id);
+        if (payload == null) {
+            return null;
+        }
+        try (JsonReader reader = new JsonReader(toReader(payload))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!reader.nextName().equals(column)) {
+                    reader.skipValue();
+                    continue;
+                }
+                JsonToken token = reader.peek();
+                if (token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN) {
+                    return (token == JsonToken.BOOLEAN) ? String.valueOf(reader.nextBoolean()) : reader.nextString();
+                }
+                return null;
+            }
+            return null;
+        }
+        catch (IOException | IllegalStateException e) {
+            throw new MirrorStoreException(file);
+        }
+    }
+
+    /**
+     * <p>
+     * Grava uma nova versão do registro no espelho.
+     * </p>
+     *
+     * @param record O registro a ser gravado. Registros sem id são ignorados.
+     * @throws MirrorStoreException Se o registro não puder ser gravado.
+     */
+    public void put(IxcRecord record) throws MirrorStoreException {
+        Integer id = record.getId();
+        if (id != null) {
+            put(id, record.toString());
+        }
+    }
+
+    /**
+     * @param id O id do registro.
+     * @param json O JSON do registro, com todas as suas propriedades.
+     * @throws MirrorStoreException Se o registro não puder ser gravado.
+     * @throws IllegalArgumentException Se o JSON estiver vazio.
+     */
+    public void put(int id, String json) throws MirrorStoreException {
+        byte[] payload = json.getBytes(StandardCharsets.UTF_8);
+        if (payload.length == 0) {
+            throw new IllegalArgumentException("O registro " + id + " não possui conteúdo");
+        }
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            index.put(id, append(id, payload.length, payload));
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Grava todos os registros do {@link Stream}, como em <b>put(IxcRecord record)</b>, e fecha o {@link Stream} ao
+     * final da gravação.
+     * </p>
+     *
+     * {@snippet lang = java:
+     * clientes.putAll(new Cliente().where("ativo").exactly("S").stream(ClienteRecord.class));
+     * }
+     * @param records Os registros a serem gravados.
+     * @return A quantidade de registros gravados.
+     * @throws MirrorStoreException Se algum registro não puder ser gravado.
+     */
+    public int putAll(Stream<? extends IxcRecord> records) throws MirrorStoreException {
+        int[] count = {0};
+        try (records) {
+            records.forEach(record -> {
+                if (record.getId() != null) {
+                    put(record);
+                    count[0]++;
+                }
+            });
+        }
+        return count[0];
+    }
+
+    /**
+     * @param id O id do registro a ser removido do espelho.
+     * @return <b>true</b> se o registro existia no espelho.
+     * @throws MirrorStoreException Se a remoção não puder ser gravada.
+     */
+    public boolean delete(int id) throws MirrorStoreException {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            if (!index.containsKey(id)) {
+                return false;
+            }
+            append(id, TOMBSTONE, new byte[0]);
+            index.remove(id);
+            return true;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Garante que todos os registros gravados até o momento estejam persistidos no disco.
+     * </p>
+     *
+     * @throws MirrorStoreException Se os dados não puderem ser persistidos.
+     */
+    public void flush() throws MirrorStoreException {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            segments.forEach(MappedByteBuffer::force);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Reescreve o arquivo do espelho apenas com a versão atual de cada registro, descartando as versões anteriores e
+     * os registros removidos. O novo arquivo substitui o anterior através de uma movimentação atômica. Se a
+     * substituição falhar, o espelho continua aberto sobre o arquivo anterior.
+     * </p>
+     *
+     * @throws MirrorStoreException Se o arquivo não puder ser reescrito.
+     */
+    public void compact() throws MirrorStoreException {
+        lock.writeLock().lock();
+        Path temp = file.resolveSibling(file.getFileName() + ".compact");
+        try {
+            checkOpen();
+            Files.deleteIfExists(temp);
+            try (IxcMirror compacted = new IxcMirror(temp)) {
+                for (Map.Entry<Integer, Long> entry : index.entrySet()) {
+                    compacted.put(entry.getKey(), new String(readAt(entry.getValue()), StandardCharsets.UTF_8));
+                }
+            }
+            release(false);
+            try {
+                move(temp, file);
+            }
+            finally {
+                open();
+            }
+        }
+        catch (IOException e) {
+            deleteQuietly(temp);
+            throw new MirrorStoreException(file);
+        }
+        catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (channel != null) {
+                segments.forEach(MappedByteBuffer::force);
+                release(true);
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void checkOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("O espelho local '" + file + "' está fechado");
+        }
+    }
+
+    private void open() throws MirrorStoreException {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            segments = new ArrayList<>();
+            index = new ConcurrentHashMap<>();
+
+            if (channel.size() == 0) {
+                ensureCapacity(HEADER_SIZE);
+                MappedByteBuffer header = segments.getFirst();
+                header.putInt(0, MAGIC);
+                header.putInt(4, FORMAT_VERSION);
+                setEnd(HEADER_SIZE);
+                return;
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            long size = channel.size();
+            if (header.position() < HEADER_SIZE || header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION
+                    || header.getLong(END_OFFSET) < HEADER_SIZE || header.getLong(END_OFFSET) > size) {
+                release(false);
+                throw new MirrorStoreException(file);
+            }
+            end = header.getLong(END_OFFSET);
+            ensureCapacity(size);
+            rebuildIndex();
+        }
+        catch (IOException | IllegalStateException | IndexOutOfBoundsException e) {
+            release(false);
+            throw new MirrorStoreException(file);
+        }
+    }
+
+    private void rebuildIndex() {
+        long offset = HEADER_SIZE;
+        while (offset < end) {
+            MappedByteBuffer segment = segments.get((int) (offset / SEGMENT_SIZE));
+            int position = (int) (offset % SEGMENT_SIZE);
+            int length = (SEGMENT_SIZE - position >= ENTRY_HEADER_SIZE) ? segment.getInt(position) : PADDING;
+
+            if (length == PADDING) {
+                offset = (offset / SEGMENT_SIZE + 1) * SEGMENT_SIZE;
+                continue;
+            }
+            int id = segment.getInt(position + 4);
+            if (length == TOMBSTONE) {
+                index.remove(id);
+                offset += ENTRY_HEADER_SIZE;
+            }
+            else {
+                index.put(id, offset);
+                offset += ENTRY_HEADER_SIZE + length;
+            }
+        }
+    }
+
+    private long append(int id, int length, byte[] payload) throws MirrorStoreException {
+        long size = ENTRY_HEADER_SIZE + payload.length;
+        if (size > SEGMENT_SIZE) {
+            throw new IllegalArgumentException("O registro " + id + " excede o tamanho máximo de um segmento");
+        }
+
+        long offset = end;
+        if (offset / SEGMENT_SIZE != (offset + size - 1) / SEGMENT_SIZE) {
+            offset = (offset / SEGMENT_SIZE + 1) * SEGMENT_SIZE;
+        }
+        try {
+            ensureCapacity(offset + size);
+        }
+        catch (IOException e) {
+            throw new MirrorStoreException(file);
+        }
+
+        MappedByteBuffer segment = segments.get((int) (offset / SEGMENT_SIZE));
+        int position = (int) (offset % SEGMENT_SIZE);
+        if (offset != end && SEGMENT_SIZE - (end % SEGMENT_SIZE) >= ENTRY_HEADER_SIZE) {
+            segments.get((int) (end / SEGMENT_SIZE)).putInt((int) (end % SEGMENT_SIZE), PADDING);
+        }
+        segment.put(position + ENTRY_HEADER_SIZE, payload);
+        segment.putInt(position + 4, id);
+        segment.putInt(position, length);
+        setEnd(offset + size);
+        return offset;
+    }
+
+    private byte[] read(int id) {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            Long offset = index.get(id);
+            return (offset != null) ? readAt(offset) : null;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private byte[] readAt(long offset) {
+        MappedByteBuffer segment = segments.get((int) (offset / SEGMENT_SIZE));
+        int position = (int) (offset % SEGMENT_SIZE);
+        byte[] payload = new byte[segment.getInt(position)];
+        segment.get(position + ENTRY_HEADER_SIZE, payload);
+        return payload;
+    }
+
+    private void ensureCapacity(long capacity) throws IOException {
+        int last = (int) ((capacity - 1) / SEGMENT_SIZE);
+        for (int i = 0; i <= last; i++) {
+            long required = (i < last) ? SEGMENT_SIZE : capacity - i * SEGMENT_SIZE;
+            MappedByteBuffer current = (i < segments.size()) ? segments.get(i) : null;
+            if (current != null && current.capacity() >= required) {
+                continue;
+            }
+            long mapped = (current != null) ? current.capacity() : 0;
+            long size = Math.min(SEGMENT_SIZE, Math.max(required, Math.max(MIN_MAPPING_SIZE, mapped * 2)));
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, i * SEGMENT_SIZE, size);
+            if (current != null) {
+                segments.set(i, segment);
+                unmap(current);
+            }
+            else {
+                segments.add(segment);
+            }
+        }
+    }
+
+    private void setEnd(long end) {
+        this.end = end;
+        segments.getFirst().putLong(END_OFFSET, end);
+    }
+
+    private void release(boolean truncate) {
+        List<MappedByteBuffer> released = segments;
+        segments = List.of();
+        if (released != null) {
+            released.forEach(IxcMirror::unmap);
+        }
+        try {
+            if (channel != null) {
+                if (truncate) {
+                    channel.truncate(end);
+                }
+                channel.close();
+            }
+        }
+        catch (IOException ignored) {
+        }
+        channel = null;
+    }
+
+    private static void unmap(MappedByteBuffer segment) {
+        if (UNMAPPER == null) {
+            return;
+        }
+        try {
+            UNMAPPER.invokeExact((ByteBuffer) segment);
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable ignored) {
+        }
+    }
+
+    private static MethodHandle findUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException ignored) {
+        }
+    }
+
+    private static Reader toReader(byte[] payload) {
+        return new StringReader(new String(payload, StandardCharsets.UTF_8));
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
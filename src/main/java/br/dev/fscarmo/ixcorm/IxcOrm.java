@@ -1,15 +1,24 @@
 package br.dev.fscarmo.ixcorm;
 
 
+import br.dev.fscarmo.ixcorm.api.KeysetIterator;
+import br.dev.fscarmo.ixcorm.api.PageIterator;
+import br.dev.fscarmo.ixcorm.api.PageScanner;
+import br.dev.fscarmo.ixcorm.api.Query;
 import br.dev.fscarmo.ixcorm.api.RequestEmitter;
 import br.dev.fscarmo.ixcorm.api.Parameter;
 import br.dev.fscarmo.ixcorm.api.records.Ordering;
 import br.dev.fscarmo.ixcorm.api.records.Pagination;
 import br.dev.fscarmo.ixcorm.enums.Operator;
 import br.dev.fscarmo.ixcorm.enums.Sort;
+import br.dev.fscarmo.ixcorm.exception.ExportException;
+import br.dev.fscarmo.ixcorm.exception.NetworkConnectionException;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -20,19 +29,27 @@ import java.util.List;
  * </p>
  *
  * <p>
- * Essa classe manipula as classes de ordenação, paginação e de construção de parâmetros, e gera um JSON compatível com
- * a query de busca da API do IXC Provedor.
+ * Essa classe manipula as classes de ordenação, paginação e de construção de parâmetros, acumulando-as em uma
+ * {@link Query}, cujo JSON compatível com a query de busca da API do IXC Provedor é gerado apenas no envio da
+ * requisição.
+ * </p>
+ *
+ * <p>
+ * Além das requisições de uma única página, 'IxcOrm' também disponibiliza <b>iterator(Class< T > mapper)</b> e
+ * <b>stream(Class< T > mapper)</b>, que percorrem todas as páginas de uma consulta sob demanda, e
+ * <b>scan(Class< T > mapper, int parallelism, boolean ordered)</b>, que busca várias páginas ao mesmo tempo. Para
+ * varreduras profundas, <b>keysetIterator(Class< T > mapper)</b> e <b>keysetStream(Class< T > mapper)</b> avançam
+ * pelo último id lido, em vez do número da página. Para listagens muito grandes,
+ * <b>columnar(IxcColumnarResult.Builder builder)</b> armazena os registros em colunas de tipos primitivos, e
+ * <b>export(Class< T > mapper, IxcExport export, Path file)</b> grava os registros em um arquivo NDJSON ou CSV.
  * </p>
  *
  * @author Felipe S. Carmo
- * @version 2.0.1
+ * @version 3.5.1
  * @since 2025-09-27
  */
 public abstract class IxcOrm extends RequestEmitter {
 
-    private final List<Parameter> parameters;
-    private Ordering ordering;
-    private Pagination pagination;
     private Parameter.Builder parameterBuilder;
 
     /**
@@ -60,9 +77,28 @@ public abstract class IxcOrm extends RequestEmitter {
      */
     protected IxcOrm(String table) {
         super(table);
-        parameters = new ArrayList<>();
-        ordering = Ordering.ascBy(table, "id");
-        pagination = Pagination.defaults();
+        parameterBuilder = Parameter.newBuilder(table);
+    }
+
+    /**
+     * <p>
+     * Cria uma instância vinculada a um {@link IxcTenant}, cujo ambiente é utilizado em todas as requisições, em vez
+     * do ambiente padrão do {@link IxcContext}:
+     * </p>
+     *
+     * {@snippet lang = java:
+     * class Cliente extends IxcOrm {
+     *
+     *     public Cliente(IxcTenant tenant) {
+     *         super("cliente", tenant);
+     *     }
+     * }
+     *}
+     * @param table O nome da tabela a ser consultada no IXC.
+     * @param tenant O {@link IxcTenant} do provedor a ser consultado.
+     */
+    protected IxcOrm(String table, IxcTenant tenant) {
+        super(table, tenant);
         parameterBuilder = Parameter.newBuilder(table);
     }
 
@@ -73,7 +109,7 @@ public abstract class IxcOrm extends RequestEmitter {
      * @return A própria instância de {@link IxcOrm}.
      */
     public IxcOrm setPagination(Pagination pagination) {
-        this.pagination = pagination;
+        getQuery().setPagination(pagination);
         return this;
     }
 
@@ -103,7 +139,6 @@ public abstract class IxcOrm extends RequestEmitter {
         parameterBuilder.operator(Operator.LIKE);
         parameterBuilder.value(value);
         addParamToGridAndReset();
-        setQuery(getQueryAsJson());
         return this;
     }
 
@@ -120,7 +155,6 @@ public abstract class IxcOrm extends RequestEmitter {
         parameterBuilder.operator(Operator.EQUALS);
         parameterBuilder.value(value);
         addParamToGridAndReset();
-        setQuery(getQueryAsJson());
         return this;
     }
 
@@ -137,7 +171,6 @@ public abstract class IxcOrm extends RequestEmitter {
         parameterBuilder.operator(Operator.LESS_THAN);
         parameterBuilder.value(value);
         addParamToGridAndReset();
-        setQuery(getQueryAsJson());
         return this;
     }
 
@@ -154,7 +187,6 @@ public abstract class IxcOrm extends RequestEmitter {
         parameterBuilder.operator(Operator.LESS_THAN_EQUALS);
         parameterBuilder.value(value);
         addParamToGridAndReset();
-        setQuery(getQueryAsJson());
         return this;
     }
 
@@ -171,7 +203,6 @@ public abstract class IxcOrm extends RequestEmitter {
         parameterBuilder.operator(Operator.GREATER_THAN);
         parameterBuilder.value(value);
         addParamToGridAndReset();
-        setQuery(getQueryAsJson());
         return this;
     }
 
@@ -188,7 +219,6 @@ public abstract class IxcOrm extends RequestEmitter {
         parameterBuilder.operator(Operator.GREATER_THAN_EQUALS);
         parameterBuilder.value(value);
         addParamToGridAndReset();
-        setQuery(getQueryAsJson());
         return this;
     }
 
@@ -202,15 +232,203 @@ public abstract class IxcOrm extends RequestEmitter {
      * @return A própria instânci de {@link IxcOrm}.
      */
     public IxcOrm orderBy(Sort order, String column) {
-        ordering = new Ordering(column, order);
-        setQuery(getQueryAsJson());
+        getQuery().setOrdering(new Ordering(column, order));
         return this;
     }
 
     /**
      * <p>
-     * Concatena as propriedades da query e a propriedade <b>grid_param</b> e os retorna em um único JSON, no
-     * seguinte formato:
+     * Retorna um {@link PageIterator} sobre todos os registros da consulta, a partir da página e com a quantidade de
+     * registros por página definidas em <b>setPagination(Pagination pagination)</b>. Cada página é buscada no IXC
+     * Provedor apenas quando os registros da página anterior já foram consumidos, e a iteração termina ao alcançar o
+     * <b>total</b> de registros da consulta.
+     * </p>
+     *
+     * <p>
+     * As páginas são buscadas com uma cópia da query, de modo que a paginação desta instância não é alterada. Se
+     * ocorrer alguma falha na comunicação com o IXC Provedor ao buscar uma das páginas, <b>hasNext()</b> lançará uma
+     * {@link br.dev.fscarmo.ixcorm.exception.NetworkConnectionException}, e se o IXC Provedor responder com uma
+     * falha, uma {@link br.dev.fscarmo.ixcorm.exception.ListingException}. Quando a iteração é interrompida antes do
+     * fim, o {@link PageIterator} deve ser fechado, para liberar a conexão da página atual.
+     * </p>
+     *
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @return Um {@link PageIterator} de objetos do tipo "<b>T</b>".
+     */
+    public <T extends IxcRecord> PageIterator<T> iterator(Class<T> mapper) {
+        Query base = getQuery().copy();
+        int rows = base.getPagination().rows();
+        return new PageIterator<>(page -> {
+            base.setPagination(new Pagination(page, rows));
+            return GETStream(mapper, base);
+        }, base.getPagination().page(), rows);
+    }
+
+    /**
+     * <p>
+     * Retorna um {@link Stream} sequencial e preguiçoso sobre todos os registros da consulta. Segue as mesmas regras
+     * de <b>iterator(Class< T > mapper)</b>, decodificando um registro de cada vez. Quando o {@link Stream} não é
+     * consumido até o fim, ele deve ser fechado, para liberar a conexão da página atual.
+     * </p>
+     *
+     * {@snippet lang = java:
+     * try (Stream<ClienteRecord> clientes = new Cliente().where("ativo").exactly("S").stream(ClienteRecord.class)) {
+     *     clientes.limit(10).forEach(c -> IO.println(c.getRazao()));
+     * }
+     * }
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @return Um {@link Stream} de objetos do tipo "<b>T</b>".
+     */
+    public <T extends IxcRecord> Stream<T> stream(Class<T> mapper) {
+        PageIterator<T> iterator = iterator(mapper);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    /**
+     * <p>
+     * Retorna um {@link KeysetIterator} sobre todos os registros da consulta, com paginação <i>keyset</i>: os
+     * registros são ordenados pelo id, e cada página é buscada com o filtro <b>id > último id lido</b>, em vez de
+     * avançar o número da página. A quantidade de registros por página é a definida em
+     * <b>setPagination(Pagination pagination)</b>.
+     * </p>
+     *
+     * <p>
+     * Diferente de <b>iterator(Class< T > mapper)</b>, o tempo de resposta de cada página não cresce ao longo da
+     * varredura, e inserções feitas durante a varredura não deslocam registros entre as páginas. A varredura utiliza
+     * uma cópia da query: os registros são ordenados pelo id, independente de <b>orderBy(...)</b>, mas a ordenação, a
+     * paginação e os filtros da instância não são alterados. Se o IXC Provedor responder com uma falha,
+     * <b>hasNext()</b> lançará uma {@link br.dev.fscarmo.ixcorm.exception.ListingException}. Quando a iteração é
+     * interrompida antes do fim, o {@link KeysetIterator} deve ser fechado.
+     * </p>
+     *
+     * {@snippet lang = java:
+     * KeysetIterator<AreceberRecord> titulos = new Areceber()
+     *         .where("status").exactly("A")
+     *         .setPagination(new Pagination(1, 1000))
+     *         .keysetIterator(AreceberRecord.class);
+     * }
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @return Um {@link KeysetIterator} de objetos do tipo "<b>T</b>".
+     */
+    public <T extends IxcRecord> KeysetIterator<T> keysetIterator(Class<T> mapper) {
+        Query base = getQuery().copy();
+        int rows = base.getPagination().rows();
+        base.setOrdering(Ordering.ascBy(getTable(), "id"));
+        base.setPagination(new Pagination(1, rows));
+
+        return new KeysetIterator<>(lastId -> {
+            if (lastId == null) {
+                return GETStream(mapper, base);
+            }
+            Parameter.Builder builder = Parameter.newBuilder(getTable());
+            builder.type("id");
+            builder.operator(Operator.GREATER_THAN);
+            builder.value(lastId);
+            Query seek = base.copy();
+            seek.addParameter(builder.build());
+            return GETStream(mapper, seek);
+        }, rows);
+    }
+
+    /**
+     * <p>
+     * Retorna um {@link Stream} sequencial e preguiçoso sobre todos os registros da consulta, com paginação
+     * <i>keyset</i>. Segue as mesmas regras de <b>keysetIterator(Class< T > mapper)</b>. Quando o {@link Stream} não é
+     * consumido até o fim, ele deve ser fechado, para liberar a conexão da página atual.
+     * </p>
+     *
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @return Um {@link Stream} de objetos do tipo "<b>T</b>".
+     */
+    public <T extends IxcRecord> Stream<T> keysetStream(Class<T> mapper) {
+        KeysetIterator<T> iterator = keysetIterator(mapper);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    /**
+     * <p>
+     * Exporta todos os registros da consulta para um arquivo, conforme o formato definido em {@link IxcExport}. Os
+     * registros são lidos com <b>stream(Class< T > mapper)</b> e gravados um de cada vez, na ordem definida em
+     * <b>orderBy(...)</b>, de modo que a memória utilizada não depende da quantidade de registros.
+     * </p>
+     *
+     * <p>
+     * Quando o {@link IxcExport} é construído com <b>keyset(true)</b>, os registros são lidos com
+     * <b>keysetStream(Class< T > mapper)</b> e exportados em ordem crescente de id, independente de
+     * <b>orderBy(...)</b>.
+     * </p>
+     *
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @param export O {@link IxcExport} com o formato do arquivo.
+     * @param file O arquivo de destino.
+     * @return A quantidade de registros exportados.
+     * @throws NetworkConnectionException Se ocorrer alguma falha na comunicação com o IXC Provedor.
+     * @throws ExportException Se o arquivo não puder ser gravado.
+     */
+    public <T extends IxcRecord> long export(Class<T> mapper, IxcExport export, Path file)
+            throws NetworkConnectionException, ExportException {
+        return export.write(export.isKeyset() ? keysetStream(mapper) : stream(mapper), file);
+    }
+
+    /**
+     * <p>
+     * Retorna um {@link Stream} sobre todos os registros da consulta, buscando até <b>parallelism</b> páginas ao mesmo
+     * tempo. A primeira página é buscada imediatamente, para que o <b>total</b> informado pelo IXC Provedor determine
+     * quantas páginas ainda restam; as demais são requisitadas de forma assíncrona, conforme o {@link Stream} é
+     * consumido.
+     * </p>
+     *
+     * <p>
+     * No máximo <b>parallelism</b> páginas ficam em memória aguardando consumo. Quando <b>ordered</b> é <b>false</b>,
+     * as páginas são entregues na ordem em que as respostas chegam.
+     * </p>
+     *
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @param parallelism A quantidade máxima de páginas buscadas ao mesmo tempo.
+     * @param ordered Se <b>true</b>, os registros são entregues na ordem das páginas.
+     * @return Um {@link Stream} de objetos do tipo "<b>T</b>".
+     */
+    public <T extends IxcRecord> Stream<T> scan(Class<T> mapper, int parallelism, boolean ordered) {
+        Pagination pagination = getQuery().getPagination();
+        int rows = pagination.rows();
+        PageScanner<T> scanner = new PageScanner<>(page -> {
+            setPagination(new Pagination(page, rows));
+            return GETAsync().thenApply(IxcResponse::getBody);
+        }, mapper, pagination.page(), rows, parallelism, ordered);
+        int characteristics = ordered ? Spliterator.ORDERED : 0;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(scanner, characteristics), false);
+    }
+
+    /**
+     * <p>
+     * Lê todas as páginas da consulta para as colunas declaradas no {@link IxcColumnarResult.Builder}, uma página de
+     * cada vez, com a quantidade de registros por página definida em <b>setPagination(...)</b>. A leitura termina
+     * quando uma página vem incompleta ou quando a quantidade de registros lidos alcança o <b>total</b> informado pela
+     * API. As páginas são lidas com uma cópia da query, de modo que a paginação da instância não é alterada.
+     * </p>
+     *
+     * @param builder O {@link IxcColumnarResult.Builder} com as colunas declaradas.
+     * @return Um {@link IxcColumnarResult} com todos os registros da consulta.
+     * @throws NetworkConnectionException Se ocorrer alguma falha na comunicação com o IXC Provedor.
+     */
+    public IxcColumnarResult columnar(IxcColumnarResult.Builder builder) throws NetworkConnectionException {
+        Query base = getQuery().copy();
+        int rows = base.getPagination().rows();
+        int page = base.getPagination().page();
+        int count;
+        do {
+            base.setPagination(new Pagination(page, rows));
+            count = GETColumnar(builder, base);
+        } while (count == rows && page++ * rows < builder.getTotal());
+        return builder.build();
+    }
+
+    /**
+     * <p>
+     * Gera, em uma única passagem, o JSON da query de busca com as propriedades da query e a propriedade
+     * <b>grid_param</b>, no seguinte formato:
      * </p>
      *
      * {@snippet lang=json:
@@ -218,48 +436,22 @@ public abstract class IxcOrm extends RequestEmitter {
      *     "qtype": "cliente",
      *     "query": "",
      *     "oper": "",
-     *     "page": "1",
-     *     "rg": 20,
-     *     "sortname": "asc",
-     *     "sortorder": "cliente.id",
-     *     "grid_param": [
-     *         {
-     *             "TB": "cliente.razao",
-     *             "OP": "L",
-     *             "P": "nome do cliente (nesse caso)"
-     *         }
-     *     ]
+     *     "page": 1,
+     *     "rp": 20,
+     *     "sortname": "cliente.id",
+     *     "sortorder": "asc",
+     *     "grid_param": "[{\"TB\":\"cliente.razao\",\"OP\":\"L\",\"P\":\"nome do cliente\"}]"
      * }
      * }
      * @return Uma {@link String} no formato JSON.
      */
     protected String getQueryAsJson() {
-        String jsonQueryProps = getQueryPropsAsJson();
-        String jsonGridParams = getGridParamsAsJson();
-        return "{"+ jsonQueryProps +","+ jsonGridParams +"}";
+        return getQuery().toJson();
     }
 
     private void addParamToGridAndReset() {
         String table = getTable();
-        parameters.add(parameterBuilder.build());
+        getQuery().addParameter(parameterBuilder.build());
         parameterBuilder = Parameter.newBuilder(table);
     }
-
-    private String getQueryPropsAsJson() {
-        return "\"qtype\":\""+ getTable() +"\"," +
-               "\"query\":\"\"," +
-               "\"oper\":\"\"," +
-               "\"page\":"+ pagination.page() +"," +
-               "\"rp\":"+ pagination.rows() +"," +
-               "\"sortname\":\""+ ordering.sortName() +"\"," +
-               "\"sortorder\":\""+ ordering.sortOrder().value() +"\"";
-    }
-
-    private String getGridParamsAsJson() {
-        StringBuilder builded = new StringBuilder().append("\"grid_param\":\"[");
-        for (Parameter param : parameters) {
-            builded.append(param.toString()).append(",");
-        }
-        return builded.append("]").toString().replace(",]", "]\"");
-    }
 }
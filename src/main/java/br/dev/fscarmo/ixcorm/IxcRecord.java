@@ -5,6 +5,8 @@ import br.dev.fscarmo.ixcorm.api.IxcRecordMapper;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import java.util.BitSet;
+
 
 /**
  * <p>
@@ -13,13 +15,20 @@ import com.google.gson.JsonObject;
  * proprieades encontradas no parâmetro {@link JsonElement} no construtor.
  * </p>
  *
+ * <p>
+ * Quando a subclasse é anotada com {@link LazyRecord}, o mapeamento não acontece no construtor: cada propriedade é
+ * convertida apenas quando <b>resolve(String field)</b> é invocado pela primeira vez para ela. A conversão de cada
+ * propriedade é sincronizada, de modo que o mesmo registro pode ser lido por várias threads.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 2.1.0
+ * @version 2.2.1
  * @since 2025-09-28
  */
 public abstract class IxcRecord {
 
     private final JsonElement jsonElement;
+    private final BitSet resolved;
     private Integer id;
 
     /**
@@ -28,14 +37,22 @@ public abstract class IxcRecord {
      */
     public IxcRecord(JsonElement jsonElement) {
         this.jsonElement = jsonElement;
-        IxcRecordMapper.map(this);
+        if (IxcRecordMapper.isLazy(getClass())) {
+            this.resolved = new BitSet();
+        }
+        else {
+            this.resolved = null;
+            IxcRecordMapper.map(this);
+        }
     }
 
     public Integer getId() {
+        resolve("id");
         return id;
     }
 
     public void setId(Integer id) {
+        resolve("id");
         this.id = id;
     }
 
@@ -48,7 +65,7 @@ public abstract class IxcRecord {
      * @return Uma {@link String} no formato JSON, sem a propriedade "id" do registro.
      */
     public String toJsonString() {
-        JsonObject copyElement = jsonElement.getAsJsonObject();
+        JsonObject copyElement = jsonElement.getAsJsonObject().deepCopy();
         copyElement.remove("id");
         return copyElement.toString();
     }
@@ -69,4 +86,32 @@ public abstract class IxcRecord {
     public JsonElement getJsonElement(String property) {
         return jsonElement.getAsJsonObject().get(property);
     }
+
+    /**
+     * <p>
+     * Em um registro anotado com {@link LazyRecord}, converte a propriedade <b>field</b> a partir do JSON do registro,
+     * caso ainda não tenha sido convertida. Nos demais registros, todas as propriedades já foram convertidas no
+     * construtor, e nada é feito.
+     * </p>
+     *
+     * @param field O nome da propriedade, como declarado na classe.
+     * @throws IllegalArgumentException Se, em um registro anotado com {@link LazyRecord}, a classe não declarar uma
+     *                                  propriedade mapeável com o nome <b>field</b>.
+     */
+    protected void resolve(String field) {
+        if (resolved == null) {
+            return;
+        }
+        int index = IxcRecordMapper.getFieldIndex(getClass(), field);
+        if (index < 0) {
+            throw new IllegalArgumentException("A classe " + getClass().getName()
+                    + " não declara uma propriedade mapeável com o nome " + field);
+        }
+        synchronized (resolved) {
+            if (!resolved.get(index)) {
+                IxcRecordMapper.mapField(this, index);
+                resolved.set(index);
+            }
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package br.dev.fscarmo.ixcorm;
 
 
+import br.dev.fscarmo.ixcorm.api.IxcMetrics;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
@@ -14,35 +15,64 @@ import java.net.http.HttpResponse;
  * de acesso ao corpo e ao status da resposta.
  * </p>
  *
+ * <p>
+ * Também pode ser criada diretamente a partir do status e do corpo de uma resposta, como acontece com as respostas
+ * servidas pelo {@link br.dev.fscarmo.ixcorm.api.ListingCache}.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 1.2.0
+ * @version 1.4.0
  * @since 2025-09-28
  */
 @SuppressWarnings("ClassCanBeRecord")
 public class IxcResponse {
 
-    private final HttpResponse<String> response;
+    private final int statusCode;
+    private final String body;
 
     /**
      * @param response Um {@link HttpResponse} devolvido pelo método <b>send()</b> da classe {@link HttpClient}.
      */
     public IxcResponse(HttpResponse<String> response) {
-        this.response = response;
+        this(response.statusCode(), response.body());
+    }
+
+    /**
+     * @param statusCode O código numérico do status da resposta.
+     * @param body O corpo da resposta, no formato JSON.
+     */
+    public IxcResponse(int statusCode, String body) {
+        this.statusCode = statusCode;
+        this.body = body;
     }
 
     /**
      * @return O código numérico do status da resposta obtida do IXC Provedor.
      */
     public int getStatusCode() {
-        return response.statusCode();
+        return statusCode;
+    }
+
+    /**
+     * @return O corpo da resposta obtida do IXC Provedor, sem nenhum tratamento.
+     */
+    public String getRawBody() {
+        return body;
     }
 
     /**
      * @return Um objeto {@link IxcResponse} contendo dodos os dados da resposta do IXC Provedor.
      */
     public IxcResponseBody getBody() {
+        IxcMetrics metrics = IxcContext.INSTANCE.getMetrics();
+        long start = (metrics != null) ? System.nanoTime() : 0;
+
         Gson gson = new Gson();
-        JsonObject jsonObject = gson.fromJson(response.body(), JsonObject.class);
+        JsonObject jsonObject = gson.fromJson(body, JsonObject.class);
+
+        if (metrics != null) {
+            metrics.onParsed((body != null) ? body.length() : 0, System.nanoTime() - start);
+        }
         return new IxcResponseBody(jsonObject);
     }
 }
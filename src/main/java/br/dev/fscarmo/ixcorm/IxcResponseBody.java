@@ -7,7 +7,14 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
@@ -16,12 +23,24 @@ import java.util.List;
  * IXC Provedor.
  * </p>
  *
+ * <p>
+ * Para páginas grandes, o mapeamento dos registros pode ser distribuído entre várias threads por
+ * <b>getRegistrosParallel(...)</b>.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 1.0.0
+ * @version 1.2.0
  * @since 2025-09-28
  */
 public class IxcResponseBody {
 
+    /**
+     * O valor da propriedade <b>type</b> nas respostas de falha da API do IXC Provedor.
+     */
+    public static final String ERROR_TYPE = "error";
+
+    private static final int MIN_CHUNK_SIZE = 256;
+
     private final JsonObject jsonObject;
     private String type;
     private String message;
@@ -93,6 +112,99 @@ public class IxcResponseBody {
         return new ArrayList<>();
     }
 
+    /**
+     * <p>
+     * Mesmo comportamento de <b>getRegistros(Class< T > mapper)</b>, mas divide a lista de <b>registros</b> em blocos
+     * que são mapeados em paralelo pelo {@link ForkJoinPool#commonPool()}.
+     * </p>
+     *
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @param ordered Se <b>true</b>, a lista devolvida mantém a ordem dos registros na resposta. Se <b>false</b>, os
+     *                blocos são adicionados à lista na ordem em que terminam de ser mapeados.
+     * @return Uma lista de objetos do tipo "<b>T</b>".
+     */
+    public <T extends IxcRecord> List<T> getRegistrosParallel(Class<T> mapper, boolean ordered) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return getRegistrosParallel(mapper, pool, pool.getParallelism(), ordered);
+    }
+
+    /**
+     * <p>
+     * Mesmo comportamento de <b>getRegistros(Class< T > mapper)</b>, mas divide a lista de <b>registros</b> em blocos
+     * que são mapeados em paralelo pelo {@link Executor} informado.
+     * </p>
+     *
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @param executor O {@link Executor} que executará o mapeamento de cada bloco.
+     * @param parallelism A quantidade de threads disponíveis no {@link Executor}, usada para dimensionar os blocos.
+     * @param ordered Se <b>true</b>, a lista devolvida mantém a ordem dos registros na resposta. Se <b>false</b>, os
+     *                blocos são adicionados à lista na ordem em que terminam de ser mapeados.
+     * @return Uma lista de objetos do tipo "<b>T</b>".
+     */
+    public <T extends IxcRecord> List<T> getRegistrosParallel(Class<T> mapper, Executor executor, int parallelism,
+                                                              boolean ordered) {
+        JsonArray jsonElements = jsonObject.getAsJsonArray("registros");
+        if (jsonElements == null) {
+            return new ArrayList<>();
+        }
+
+        List<JsonElement> elements = jsonElements.asList();
+        int size = elements.size();
+        int chunks = Math.max(1, Math.min(size / MIN_CHUNK_SIZE, Math.max(1, parallelism) * 4));
+        int chunkSize = (int) Math.ceilDiv((long) size, chunks);
+
+        IxcRecordFactory<T> factory = new IxcRecordFactory<>(mapper);
+        return ordered
+                ? mapChunksInOrder(elements, factory, executor, chunkSize)
+                : mapChunksAsCompleted(elements, factory, executor, chunkSize);
+    }
+
+    private static <T extends IxcRecord> List<T> mapChunksInOrder(List<JsonElement> elements,
+                                                                  IxcRecordFactory<T> factory,
+                                                                  Executor executor, int chunkSize) {
+        int size = elements.size();
+        @SuppressWarnings("unchecked")
+        T[] records = (T[]) new IxcRecord[size];
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        for (int start = 0; start < size; start += chunkSize) {
+            int from = start;
+            int to = Math.min(size, start + chunkSize);
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    records[i] = factory.newRecord(elements.get(i));
+                }
+            }, executor));
+        }
+
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+        return Collections.unmodifiableList(Arrays.asList(records));
+    }
+
+    private static <T extends IxcRecord> List<T> mapChunksAsCompleted(List<JsonElement> elements,
+                                                                      IxcRecordFactory<T> factory,
+                                                                      Executor executor, int chunkSize) {
+        int size = elements.size();
+        Queue<List<T>> completed = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        for (int start = 0; start < size; start += chunkSize) {
+            List<JsonElement> chunk = elements.subList(start, Math.min(size, start + chunkSize));
+            tasks.add(CompletableFuture.runAsync(() -> {
+                List<T> mapped = new ArrayList<>(chunk.size());
+                chunk.forEach(element -> mapped.add(factory.newRecord(element)));
+                completed.add(mapped);
+            }, executor));
+        }
+
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+        List<T> records = new ArrayList<>(size);
+        completed.forEach(records::addAll);
+        return Collections.unmodifiableList(records);
+    }
+
     private void setupType() {
         JsonElement element = jsonObject.get("type");
         type = (element == null) ? "" : element.getAsString();
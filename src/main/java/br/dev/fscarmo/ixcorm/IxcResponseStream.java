@@ -0,0 +1,217 @@
+package br.dev.fscarmo.ixcorm;
+
+
+import br.dev.fscarmo.ixcorm.api.IxcRecordFactory;
+import br.dev.fscarmo.ixcorm.exception.NetworkConnectionException;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>
+ * A classe 'IxcResponseStream' decodifica o corpo de uma resposta de listagem do IXC Provedor diretamente do
+ * {@link InputStream} da conexão, com um {@link JsonReader}. Os itens da propriedade <b>registros</b> são lidos e
+ * mapeados um de cada vez, no momento em que são solicitados, sem que o corpo completo da resposta seja carregado em
+ * memória como {@link String} ou como árvore JSON.
+ * </p>
+ *
+ * <p>
+ * As propriedades <b>page</b>, <b>total</b>, <b>type</b> e <b>message</b> estão disponíveis assim que forem lidas.
+ * Quando a API as envia depois de <b>registros</b>, elas só estarão disponíveis após todos os registros terem sido
+ * consumidos. A instância deve ser fechada após o uso, para liberar a conexão.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.1
+ * @since 2026-10-17
+ *
+ * @param <T> Qualquer subclasse de {@link IxcRecord}.
+ */
+public class IxcResponseStream<T extends IxcRecord> implements Iterator<T>, AutoCloseable {
+
+    private final int statusCode;
+    private final JsonReader reader;
+    private final IxcRecordFactory<T> factory;
+    private boolean insideRecords;
+    private boolean finished;
+    private int count;
+    private String type;
+    private String message;
+    private int page;
+    private int total;
+
+    /**
+     * @param statusCode O código numérico do status da resposta.
+     * @param body O {@link InputStream} com o corpo da resposta.
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     */
+    public IxcResponseStream(int statusCode, InputStream body, Class<T> mapper) {
+        Reader bodyReader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        this.statusCode = statusCode;
+        this.reader = new JsonReader(bodyReader);
+        this.factory = new IxcRecordFactory<>(mapper);
+        this.type = "";
+        this.message = "";
+        readUntilRecords();
+    }
+
+    /**
+     * @return O código numérico do status da resposta obtida do IXC Provedor.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return Pode retornar "success" ou {@link IxcResponseBody#ERROR_TYPE}, dependendo do status de resposta da API
+     *         do IXC Provedor.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * <p>
+     * Indica se a resposta é uma falha: um status fora da faixa 2xx, ou um corpo com a propriedade <b>type</b> igual a
+     * {@link IxcResponseBody#ERROR_TYPE}. Uma página de falha não possui registros, e não deve ser confundida com a
+     * última página de uma listagem.
+     * </p>
+     *
+     * @return <b>true</b> se a resposta é uma falha.
+     */
+    public boolean isError() {
+        return statusCode < 200 || statusCode >= 300 || IxcResponseBody.ERROR_TYPE.equals(type);
+    }
+
+    /**
+     * @return Uma mensagem contendo informações sobre sucesso ou falha na requisição.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return O número da página atual, dos registros retornados pelo IXC Provedor.
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * @return A quantidade total de registros encontrados em uma consulta feita ao IXC Provedor.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return A quantidade de registros lidos até o momento.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!insideRecords) {
+            return false;
+        }
+        try {
+            if (reader.hasNext()) {
+                return true;
+            }
+            reader.endArray();
+            insideRecords = false;
+            readUntilRecords();
+            return false;
+        }
+        catch (IOException | IllegalStateException e) {
+            throw new NetworkConnectionException();
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        JsonElement element;
+        try {
+            element = JsonParser.parseReader(reader);
+        }
+        catch (JsonParseException e) {
+            throw new NetworkConnectionException();
+        }
+        count++;
+        return factory.newRecord(element);
+    }
+
+    /**
+     * @return Um {@link Stream} sequencial sobre os registros restantes. Fechar o {@link Stream} também fecha esta
+     *         instância.
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        }
+        catch (IOException ignored) {
+        }
+    }
+
+    private void readUntilRecords() {
+        try {
+            if (!finished && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+            }
+            while (!finished && reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("registros") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    insideRecords = true;
+                    return;
+                }
+                readProperty(name);
+            }
+            finished = true;
+        }
+        catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new NetworkConnectionException();
+        }
+    }
+
+    private void readProperty(String name) throws IOException {
+        JsonToken token = reader.peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            reader.skipValue();
+            return;
+        }
+        String value = reader.nextString();
+        switch (name) {
+            case "type" -> type = value;
+            case "message" -> message = value;
+            case "page" -> page = Integer.parseInt(value);
+            case "total" -> total = Integer.parseInt(value);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package br.dev.fscarmo.ixcorm;
+
+
+import br.dev.fscarmo.ixcorm.api.DomainRateLimiter;
+import br.dev.fscarmo.ixcorm.api.InFlightRequests;
+import br.dev.fscarmo.ixcorm.api.IxcTransport;
+import br.dev.fscarmo.ixcorm.api.ListingCache;
+import br.dev.fscarmo.ixcorm.api.RequestDispatcher;
+import br.dev.fscarmo.ixcorm.api.RetryPolicy;
+import br.dev.fscarmo.ixcorm.api.records.RateLimits;
+import br.dev.fscarmo.ixcorm.config.Environment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+
+/**
+ * <p>
+ * A classe 'IxcTenant' representa um ambiente do IXC Provedor isolado dos demais, para que uma mesma aplicação possa
+ * consultar os servidores de vários provedores. Cada tenant possui o seu próprio {@link Environment}, o seu próprio
+ * {@link IxcTransport}, com as suas conexões, e, opcionalmente, o seu próprio {@link ListingCache}, os seus
+ * {@link RateLimits} e a sua {@link RetryPolicy}.
+ * </p>
+ *
+ * <p>
+ * O tenant é o dono do seu {@link IxcTransport}, que é fechado por <b>close()</b> quando o tenant é removido do
+ * {@link IxcContext}.
+ * </p>
+ *
+ * <p>
+ * Tudo o que uma requisição precisa (o header de autorização, o endereço da API e o {@link RequestDispatcher}) é
+ * construído uma única vez, na criação do tenant. Assim, as instâncias de {@link IxcOrm} vinculadas a tenants
+ * diferentes não alocam nenhum objeto adicional para alternar entre eles.
+ * </p>
+ *
+ * <p>
+ * Os {@link RateLimits} de cada tenant são aplicados por um {@link DomainRateLimiter} próprio, e não pelo limitador
+ * compartilhado do domínio. Assim, dois tenants hospedados no mesmo servidor não dividem o mesmo orçamento.
+ * </p>
+ *
+ * {@snippet lang = java:
+ * IxcTenant provedor = IxcTenant.newBuilder("provedor-a", new StaticEnv(token, "ixc.provedor-a.com.br"))
+ *         .rateLimits(RateLimits.defaults())
+ *         .build();
+ * IxcContext.INSTANCE.addTenant(provedor);
+ *
+ * IxcResponse response = new Cliente(IxcContext.INSTANCE.getTenant("provedor-a")).GET();
+ * }
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class IxcTenant implements AutoCloseable {
+
+    private final String id;
+    private final Environment env;
+    private final String authorization;
+    private final String endpoint;
+    private final ListingCache cache;
+    private final InFlightRequests inFlightRequests;
+    private final RequestDispatcher dispatcher;
+
+    private IxcTenant(Builder builder) {
+        this.id = builder.id;
+        this.env = builder.env;
+        this.authorization = "Basic "+ encodeToken(env.getToken());
+        this.endpoint = env.getEndpoint();
+        this.cache = builder.cache;
+        this.inFlightRequests = builder.coalescing ? new InFlightRequests() : null;
+
+        IxcTransport transport = (builder.transport != null) ? builder.transport : IxcTransport.defaults();
+        DomainRateLimiter limiter = (builder.rateLimits != null)
+                ? new DomainRateLimiter(builder.rateLimits)
+                : null;
+        this.dispatcher = new RequestDispatcher(transport, limiter, builder.retryPolicy);
+    }
+
+    /**
+     * @param id O identificador único do tenant.
+     * @param env O {@link Environment} com o token e o domínio do IXC Provedor do tenant.
+     * @return Uma nova instância de {@link Builder}.
+     */
+    public static Builder newBuilder(String id, Environment env) {
+        return new Builder(id, env);
+    }
+
+    /**
+     * @return O identificador único do tenant.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return O {@link Environment} do tenant.
+     */
+    public Environment getEnv() {
+        return env;
+    }
+
+    /**
+     * @return O valor do header <b>Authorization</b> enviado em todas as requisições do tenant.
+     */
+    public String getAuthorization() {
+        return authorization;
+    }
+
+    /**
+     * @return O endereço base da API do IXC Provedor do tenant, ao qual é adicionado o nome da tabela.
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return O {@link ListingCache} do tenant, ou <b>null</b> se o cache não estiver habilitado.
+     */
+    public ListingCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return O {@link InFlightRequests} do tenant, ou <b>null</b> se o agrupamento de listagens estiver desabilitado.
+     */
+    public InFlightRequests getInFlightRequests() {
+        return inFlightRequests;
+    }
+
+    /**
+     * @return O {@link RequestDispatcher} que envia as requisições do tenant.
+     */
+    public RequestDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * <p>
+     * Fecha o {@link IxcTransport} do tenant, liberando as suas conexões. As instâncias de {@link IxcOrm} vinculadas
+     * ao tenant não podem mais enviar requisições depois do fechamento.
+     * </p>
+     */
+    @Override
+    public void close() {
+        dispatcher.getTransport().close();
+    }
+
+    private static String encodeToken(String token) {
+        byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    /**
+     * <p>
+     * A classe 'Builder' constrói uma instância de {@link IxcTenant}.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     */
+    public static class Builder {
+
+        private final String id;
+        private final Environment env;
+        private IxcTransport transport;
+        private ListingCache cache;
+        private boolean coalescing;
+        private RateLimits rateLimits;
+        private RetryPolicy retryPolicy;
+
+        private Builder(String id, Environment env) {
+            this.id = id;
+            this.env = env;
+            this.transport = null;
+            this.cache = null;
+            this.coalescing = true;
+            this.rateLimits = null;
+            this.retryPolicy = null;
+        }
+
+        /**
+         * @param transport O {@link IxcTransport} do tenant. Se não for definido, o tenant cria o seu próprio
+         *                  transporte, com as configurações padrão. O transporte é fechado junto com o tenant, e
+         *                  por isso não deve ser compartilhado entre tenants.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder transport(IxcTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        /**
+         * @param cache O {@link ListingCache} exclusivo do tenant, ou <b>null</b> para desabilitar o cache. Um mesmo
+         *              cache não deve ser compartilhado entre tenants, pois as suas entradas são identificadas apenas
+         *              pela tabela e pela query de busca.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder cache(ListingCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * @param coalescing Se <b>false</b>, toda listagem do tenant envia a sua própria requisição. O padrão é
+         *                   <b>true</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder coalescing(boolean coalescing) {
+            this.coalescing = coalescing;
+            return this;
+        }
+
+        /**
+         * @param rateLimits Os limites de requisições por segundo do tenant, ou <b>null</b> para desabilitar o
+         *                   controle.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder rateLimits(RateLimits rateLimits) {
+            this.rateLimits = rateLimits;
+            return this;
+        }
+
+        /**
+         * @param retryPolicy A {@link RetryPolicy} das requisições do tenant, ou <b>null</b> para desabilitar os
+         *                    reenvios.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * @return Uma nova instância de {@link IxcTenant}.
+         */
+        public IxcTenant build() {
+            return new IxcTenant(this);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package br.dev.fscarmo.ixcorm;
+
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * <p>
+ * A anotação 'LazyRecord' habilita o mapeamento sob demanda em uma subclasse de {@link IxcRecord}. Em vez de converter
+ * todas as propriedades no construtor, cada propriedade é convertida do JSON do registro apenas na primeira vez que
+ * for acessada, e o valor convertido é mantido na própria propriedade. Assim, o custo do mapeamento é pago apenas
+ * pelas colunas realmente utilizadas.
+ * </p>
+ *
+ * <p>
+ * Os getters de um registro sob demanda devem invocar <b>resolve(String field)</b> antes de devolver a propriedade, e
+ * os setters devem fazer o mesmo antes de alterá-la, para que o valor atribuído não seja substituído depois pelo valor
+ * do JSON:
+ * </p>
+ *
+ * {@snippet lang = java:
+ * @LazyRecord
+ * public class ClienteContratoRecord extends IxcRecord {
+ *
+ *     private String status;
+ *
+ *     public ClienteContratoRecord(JsonElement jsonElement) {
+ *         super(jsonElement);
+ *     }
+ *
+ *     public String getStatus() {
+ *         resolve("status");
+ *         return status;
+ *     }
+ *
+ *     public void setStatus(String status) {
+ *         resolve("status");
+ *         this.status = status;
+ *     }
+ * }
+ * }
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface LazyRecord {
+}
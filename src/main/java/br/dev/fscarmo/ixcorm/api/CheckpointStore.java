@@ -0,0 +1,160 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.api.records.SyncCheckpoint;
+import br.dev.fscarmo.ixcorm.exception.DeltaSyncException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+
+/**
+ * <p>
+ * A classe 'CheckpointStore' persiste, em um diretório local, o {@link SyncCheckpoint} de cada sincronização feita por
+ * {@link br.dev.fscarmo.ixcorm.IxcDeltaSync}. Cada sincronização é gravada em um arquivo <b>{nome}.checkpoint</b>, no
+ * formato de propriedades.
+ * </p>
+ *
+ * <p>
+ * A gravação é feita em um arquivo temporário, no mesmo diretório, que substitui o arquivo anterior através de uma
+ * movimentação atômica. Assim, uma interrupção durante a gravação mantém o checkpoint anterior intacto.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.1
+ * @since 2026-10-17
+ */
+public class CheckpointStore {
+
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_.-]+");
+    private static final String WATERMARK = "watermark";
+    private static final String BOUNDARY_IDS = "boundary_ids";
+
+    private final Path directory;
+
+    /**
+     * @param directory O diretório onde os checkpoints são gravados. É criado na primeira gravação, se não existir.
+     */
+    public CheckpointStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return O diretório onde os checkpoints são gravados.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @param name O nome da sincronização.
+     * @return O {@link SyncCheckpoint} gravado, ou <b>null</b> se a sincronização ainda não possui checkpoint.
+     * @throws DeltaSyncException Se o arquivo do checkpoint não puder ser lido.
+     */
+    public SyncCheckpoint load(String name) throws DeltaSyncException {
+        Path file = resolve(name);
+        if (Files.notExists(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            return new SyncCheckpoint(properties.getProperty(WATERMARK), parseIds(properties.getProperty(BOUNDARY_IDS)));
+        }
+        catch (IOException | NumberFormatException e) {
+            throw new DeltaSyncException(name, e);
+        }
+    }
+
+    /**
+     * @param name O nome da sincronização.
+     * @param checkpoint O {@link SyncCheckpoint} a ser gravado, substituindo o anterior.
+     * @throws DeltaSyncException Se o arquivo do checkpoint não puder ser gravado.
+     */
+    public void save(String name, SyncCheckpoint checkpoint) throws DeltaSyncException {
+        Path file = resolve(name);
+        Properties properties = new Properties();
+        if (checkpoint.watermark() != null) {
+            properties.setProperty(WATERMARK, checkpoint.watermark());
+        }
+        properties.setProperty(BOUNDARY_IDS, checkpoint.boundaryIds().stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",")));
+
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, name, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, null);
+            }
+            move(temp, file);
+        }
+        catch (IOException e) {
+            deleteQuietly(temp);
+            throw new DeltaSyncException(name, e);
+        }
+    }
+
+    /**
+     * @param name O nome da sincronização cujo checkpoint deve ser removido.
+     * @throws DeltaSyncException Se o arquivo do checkpoint não puder ser removido.
+     */
+    public void delete(String name) throws DeltaSyncException {
+        try {
+            Files.deleteIfExists(resolve(name));
+        }
+        catch (IOException e) {
+            throw new DeltaSyncException(name, e);
+        }
+    }
+
+    private Path resolve(String name) {
+        if (name == null || !VALID_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Nome de sincronização inválido: " + name);
+        }
+        return directory.resolve(name + ".checkpoint");
+    }
+
+    private static Set<Integer> parseIds(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import java.util.BitSet;
+
+
+/**
+ * <p>
+ * A classe 'Column' é a base das colunas de um {@link br.dev.fscarmo.ixcorm.IxcColumnarResult}. Cada coluna armazena
+ * os valores de uma única propriedade dos registros em um array do tipo primitivo correspondente, que cresce à medida
+ * que os registros são adicionados, e marca em um {@link BitSet} as linhas sem valor.
+ * </p>
+ *
+ * <p>
+ * Os valores chegam da API do IXC Provedor como texto. Valores vazios, ou que não possam ser convertidos para o tipo
+ * da coluna, são armazenados como nulos.
+ * </p>
+ *
+ * <p>
+ * As colunas são somente leitura fora deste pacote: as linhas são adicionadas apenas por um {@link ColumnSet}, durante
+ * a leitura das respostas, de modo que as colunas de um resultado já construído não podem ser alteradas.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public abstract class Column {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final String name;
+    private BitSet nulls;
+    int size;
+
+    /**
+     * @param name O nome da propriedade dos registros armazenada na coluna.
+     */
+    Column(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return O nome da propriedade dos registros armazenada na coluna.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return A quantidade de linhas da coluna.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param row A posição da linha.
+     * @return <b>true</b> se a linha não possui valor.
+     */
+    public boolean isNull(int row) {
+        checkIndex(row);
+        return nulls != null && nulls.get(row);
+    }
+
+    /**
+     * @param row A posição da linha.
+     * @return O valor da linha convertido para texto, ou <b>null</b> se a linha não possuir valor.
+     */
+    public abstract String getAsString(int row);
+
+    /**
+     * <p>
+     * Adiciona uma nova linha à coluna, convertendo o valor recebido da API para o tipo da coluna.
+     * </p>
+     *
+     * @param value O valor recebido da API, como texto.
+     */
+    abstract void append(String value);
+
+    /**
+     * <p>
+     * Adiciona uma nova linha sem valor à coluna.
+     * </p>
+     */
+    void appendNull() {
+        ensureCapacity(size + 1);
+        if (nulls == null) {
+            nulls = new BitSet();
+        }
+        nulls.set(size++);
+    }
+
+    /**
+     * <p>
+     * Reduz o array da coluna para a quantidade de linhas armazenadas, liberando a capacidade não utilizada.
+     * </p>
+     */
+    abstract void trim();
+
+    /**
+     * @param capacity A quantidade mínima de linhas que o array da coluna deve comportar.
+     */
+    abstract void ensureCapacity(int capacity);
+
+    /**
+     * @param capacity A capacidade atual do array.
+     * @param required A capacidade mínima necessária.
+     * @return A nova capacidade do array, ao menos 50% maior que a atual.
+     */
+    static int grow(int capacity, int required) {
+        return Math.max(required, Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1)));
+    }
+
+    void checkIndex(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException(row);
+        }
+    }
+}
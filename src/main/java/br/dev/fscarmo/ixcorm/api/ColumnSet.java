@@ -0,0 +1,145 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * <p>
+ * A classe 'ColumnSet' declara um conjunto de colunas e adiciona a elas as linhas decodificadas de uma lista de
+ * registros JSON. É a única forma de adicionar linhas a uma {@link Column}: as colunas são criadas pela própria
+ * instância, e os seus métodos de escrita não são acessíveis fora deste pacote.
+ * </p>
+ *
+ * <p>
+ * Todas as colunas mantêm sempre a mesma quantidade de linhas. As propriedades não declaradas são descartadas, e as
+ * propriedades ausentes em um registro são adicionadas como nulas.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ColumnSet {
+
+    private final Map<String, Column> columns;
+    private int size;
+
+    public ColumnSet() {
+        this.columns = new LinkedHashMap<>();
+    }
+
+    /**
+     * @param name O nome de uma propriedade com valores inteiros de 32 bits.
+     */
+    public void intColumn(String name) {
+        add(new IntColumn(name));
+    }
+
+    /**
+     * @param name O nome de uma propriedade com valores inteiros de 64 bits.
+     */
+    public void longColumn(String name) {
+        add(new LongColumn(name));
+    }
+
+    /**
+     * @param name O nome de uma propriedade com valores decimais.
+     */
+    public void doubleColumn(String name) {
+        add(new DoubleColumn(name));
+    }
+
+    /**
+     * @param name O nome de uma propriedade com valores de texto.
+     */
+    public void stringColumn(String name) {
+        add(new StringColumn(name));
+    }
+
+    /**
+     * @return A quantidade de linhas de cada coluna.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return As colunas declaradas, na ordem de declaração, em um mapa somente leitura indexado pelo nome.
+     */
+    public Map<String, Column> getColumns() {
+        return Collections.unmodifiableMap(columns);
+    }
+
+    /**
+     * <p>
+     * Decodifica um array JSON de registros, a partir da posição atual do {@link JsonReader}, adicionando uma linha a
+     * todas as colunas para cada objeto do array.
+     * </p>
+     *
+     * @param reader Um {@link JsonReader} posicionado no início do array de registros.
+     * @return A quantidade de linhas adicionadas.
+     * @throws IOException Se o array não puder ser lido.
+     */
+    public int read(JsonReader reader) throws IOException {
+        int before = size;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                Column column = columns.get(reader.nextName());
+                if (column == null || column.size() > size) {
+                    reader.skipValue();
+                    continue;
+                }
+                readValue(reader, column);
+            }
+            reader.endObject();
+            size++;
+            for (Column column : columns.values()) {
+                if (column.size() < size) {
+                    column.appendNull();
+                }
+            }
+        }
+        reader.endArray();
+        return size - before;
+    }
+
+    /**
+     * <p>
+     * Reduz o array de cada coluna para a quantidade de linhas armazenadas, liberando a capacidade não utilizada.
+     * </p>
+     */
+    public void trim() {
+        columns.values().forEach(Column::trim);
+    }
+
+    private void add(Column column) {
+        if (size > 0) {
+            throw new IllegalStateException("As colunas devem ser declaradas antes da leitura dos registros");
+        }
+        columns.put(column.getName(), column);
+    }
+
+    private static void readValue(JsonReader reader, Column column) throws IOException {
+        switch (reader.peek()) {
+            case STRING, NUMBER -> column.append(reader.nextString());
+            case BOOLEAN -> column.append(String.valueOf(reader.nextBoolean()));
+            default -> {
+                reader.skipValue();
+                column.appendNull();
+            }
+        }
+    }
+}
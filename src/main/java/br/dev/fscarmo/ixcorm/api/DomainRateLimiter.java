@@ -0,0 +1,153 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.api.records.RateLimits;
+import br.dev.fscarmo.ixcorm.exception.NetworkConnectionException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * <p>
+ * A classe 'DomainRateLimiter' controla a taxa de requisições enviadas para um servidor do IXC Provedor. Existe uma
+ * única instância por domínio em toda a JVM, compartilhada por todas as instâncias de
+ * {@link br.dev.fscarmo.ixcorm.IxcOrm} que apontam para esse domínio, com orçamentos separados para as requisições de
+ * listagem e de escrita.
+ * </p>
+ *
+ * <p>
+ * Respostas com status 429 (Too Many Requests) ou 503 (Service Unavailable) reduzem automaticamente a taxa do
+ * orçamento correspondente, que volta a crescer conforme as respostas seguintes são bem sucedidas. Quando o contexto
+ * é configurado com novos {@link RateLimits}, o limitador do domínio é reconfigurado na próxima requisição.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.2.0
+ * @since 2026-10-17
+ */
+public class DomainRateLimiter {
+
+    private static final Map<String, DomainRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private final TokenBucket listings;
+    private final TokenBucket writes;
+    private RateLimits limits;
+
+    /**
+     * <p>
+     * Cria um limitador próprio, que não é compartilhado com as demais instâncias do mesmo domínio. É o limitador
+     * utilizado por cada {@link br.dev.fscarmo.ixcorm.IxcTenant}, já que provedores diferentes hospedados no mesmo
+     * servidor possuem orçamentos independentes.
+     * </p>
+     *
+     * @param limits Os limites de listagens e escritas por segundo.
+     */
+    public DomainRateLimiter(RateLimits limits) {
+        this.listings = new TokenBucket(limits.listingsPerSecond(), limits.burst());
+        this.writes = new TokenBucket(limits.writesPerSecond(), limits.burst());
+        this.limits = limits;
+    }
+
+    /**
+     * <p>
+     * Retorna o limitador do domínio, criando-o com os limites informados caso ainda não exista. Quando o limitador
+     * já existe com limites diferentes, ele é reconfigurado com os limites informados, que passam a valer para todas
+     * as instâncias que compartilham o domínio.
+     * </p>
+     *
+     * @param domain O domínio do servidor do IXC Provedor.
+     * @param limits Os limites do limitador.
+     * @return O {@link DomainRateLimiter} compartilhado do domínio.
+     */
+    public static DomainRateLimiter forDomain(String domain, RateLimits limits) {
+        DomainRateLimiter limiter = LIMITERS.computeIfAbsent(domain.toLowerCase(), d -> new DomainRateLimiter(limits));
+        limiter.reconfigure(limits);
+        return limiter;
+    }
+
+    /**
+     * @return Os limites atuais do limitador.
+     */
+    public synchronized RateLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * <p>
+     * Altera os limites dos orçamentos de listagens e de escritas, caso sejam diferentes dos limites atuais.
+     * </p>
+     *
+     * @param limits Os novos limites de listagens e escritas por segundo.
+     */
+    public synchronized void reconfigure(RateLimits limits) {
+        if (limits.equals(this.limits)) {
+            return;
+        }
+        listings.reconfigure(limits.listingsPerSecond(), limits.burst());
+        writes.reconfigure(limits.writesPerSecond(), limits.burst());
+        this.limits = limits;
+    }
+
+    /**
+     * <p>
+     * Aguarda, bloqueando a thread atual, até que haja uma permissão disponível no orçamento correspondente.
+     * </p>
+     *
+     * @param listing Se <b>true</b>, consome o orçamento de listagens; caso contrário, o de escritas.
+     * @throws NetworkConnectionException Se a thread for interrompida durante a espera.
+     */
+    public void acquire(boolean listing) throws NetworkConnectionException {
+        long deadline = System.nanoTime() + reserve(listing);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new NetworkConnectionException();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Reserva uma permissão no orçamento correspondente, sem bloquear.
+     * </p>
+     *
+     * @param listing Se <b>true</b>, consome o orçamento de listagens; caso contrário, o de escritas.
+     * @return O tempo, em nanossegundos, que o chamador deve aguardar antes de enviar a requisição.
+     */
+    public long reserve(boolean listing) {
+        return bucket(listing).reserve();
+    }
+
+    /**
+     * <p>
+     * Ajusta a taxa do orçamento correspondente de acordo com o status da resposta.
+     * </p>
+     *
+     * @param listing Se <b>true</b>, ajusta o orçamento de listagens; caso contrário, o de escritas.
+     * @param statusCode O código numérico do status da resposta.
+     */
+    public void onResponse(boolean listing, int statusCode) {
+        if (statusCode == 429 || statusCode == 503) {
+            bucket(listing).onThrottled();
+        }
+        else if (statusCode < 500) {
+            bucket(listing).onSuccess();
+        }
+    }
+
+    /**
+     * @param listing Se <b>true</b>, consulta o orçamento de listagens; caso contrário, o de escritas.
+     * @return A taxa atual, em requisições por segundo.
+     */
+    public double getRate(boolean listing) {
+        return bucket(listing).getRate();
+    }
+
+    private TokenBucket bucket(boolean listing) {
+        return listing ? listings : writes;
+    }
+}
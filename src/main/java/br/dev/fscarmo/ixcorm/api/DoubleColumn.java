@@ -0,0 +1,76 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * A classe 'DoubleColumn' armazena, em um <b>double[]</b>, uma coluna de números decimais, como valores monetários e
+ * coordenadas.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class DoubleColumn extends Column {
+
+    private double[] values = new double[0];
+
+    /**
+     * @param name O nome da propriedade dos registros armazenada na coluna.
+     */
+    DoubleColumn(String name) {
+        super(name);
+    }
+
+    /**
+     * @param row A posição da linha.
+     * @return O valor da linha, ou <b>0</b> se a linha não possuir valor.
+     */
+    public double getDouble(int row) {
+        checkIndex(row);
+        return values[row];
+    }
+
+    /**
+     * @return Uma cópia dos valores da coluna. As linhas sem valor contêm <b>0</b>.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public String getAsString(int row) {
+        return isNull(row) ? null : String.valueOf(values[row]);
+    }
+
+    @Override
+    void append(String value) {
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value.trim());
+        }
+        catch (NumberFormatException e) {
+            appendNull();
+            return;
+        }
+        ensureCapacity(size + 1);
+        values[size++] = parsed;
+    }
+
+    @Override
+    void trim() {
+        if (values.length > size) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, grow(values.length, capacity));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.util.zip.GZIPInputStream;
+
+
+/**
+ * <p>
+ * A classe 'GzipBodyHandlers' fornece manipuladores do corpo da resposta que descompactam, de forma transparente, as
+ * respostas enviadas pelo servidor com o header <b>Content-Encoding: gzip</b>. As respostas sem compactação são lidas
+ * da mesma forma que pelos manipuladores padrão de {@link HttpResponse.BodyHandlers}.
+ * </p>
+ *
+ * <p>
+ * Em <b>ofInputStream()</b>, os dados são descompactados à medida que são lidos da conexão, sem que o corpo inteiro
+ * seja mantido em memória. Em <b>ofString(Charset charset)</b>, apenas o corpo compactado é acumulado antes de ser
+ * descompactado diretamente na {@link String} final.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class GzipBodyHandlers {
+
+    private static final String GZIP = "gzip";
+
+    private GzipBodyHandlers() {}
+
+    /**
+     * @param charset O conjunto de caracteres do corpo da resposta.
+     * @return Um manipulador que devolve o corpo da resposta, já descompactado, como uma {@link String}.
+     */
+    public static HttpResponse.BodyHandler<String> ofString(Charset charset) {
+        return info -> isGzip(info)
+                ? HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(),
+                        bytes -> gunzip(bytes, charset))
+                : HttpResponse.BodySubscribers.ofString(charset);
+    }
+
+    /**
+     * @return Um manipulador que devolve um {@link InputStream} do corpo da resposta, descompactado sob demanda.
+     */
+    public static HttpResponse.BodyHandler<InputStream> ofInputStream() {
+        return info -> isGzip(info)
+                ? HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                        GzipBodyHandlers.LazyGzipInputStream::new)
+                : HttpResponse.BodySubscribers.ofInputStream();
+    }
+
+    private static boolean isGzip(HttpResponse.ResponseInfo info) {
+        return info.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.trim().equalsIgnoreCase(GZIP))
+                .orElse(false);
+    }
+
+    private static String gunzip(byte[] bytes, Charset charset) {
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes), 8192)) {
+            return new String(input.readAllBytes(), charset);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * <p>
+     * O {@link GZIPInputStream} lê o cabeçalho gzip já no construtor. Como a função de mapeamento do
+     * {@link HttpResponse.BodySubscriber} não pode bloquear, a sua criação é adiada até a primeira leitura.
+     * </p>
+     */
+    private static final class LazyGzipInputStream extends InputStream {
+
+        private final InputStream compressed;
+        private InputStream delegate;
+
+        private LazyGzipInputStream(InputStream compressed) {
+            this.compressed = compressed;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return delegate().read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return delegate().read(buffer, offset, length);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (delegate != null) ? delegate.available() : 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (delegate != null) {
+                delegate.close();
+            }
+            else {
+                compressed.close();
+            }
+        }
+
+        private InputStream delegate() throws IOException {
+            if (delegate == null) {
+                delegate = new GZIPInputStream(compressed, 8192);
+            }
+            return delegate;
+        }
+    }
+}
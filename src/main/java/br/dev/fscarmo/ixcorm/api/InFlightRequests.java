@@ -0,0 +1,134 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.IxcResponse;
+import br.dev.fscarmo.ixcorm.exception.IxcException;
+import br.dev.fscarmo.ixcorm.exception.NetworkConnectionException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+
+/**
+ * <p>
+ * A classe 'InFlightRequests' agrupa as requisições de listagem idênticas que estão em andamento ao mesmo tempo
+ * (<i>single-flight</i>). Quando uma listagem com o mesmo endereço e a mesma query de busca de outra listagem ainda
+ * não respondida é solicitada, nenhuma nova requisição é enviada: a chamada duplicada aguarda e compartilha o
+ * {@link IxcResponse} da requisição original.
+ * </p>
+ *
+ * <p>
+ * Quando uma tabela recebe uma escrita, <b>forget(String table)</b> desassocia as listagens em andamento dessa tabela,
+ * para que as chamadas seguintes enviem uma nova requisição, em vez de aguardar uma resposta que pode não refletir a
+ * escrita.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class InFlightRequests {
+
+    private final Map<Key, CompletableFuture<IxcResponse>> requests = new ConcurrentHashMap<>();
+
+    /**
+     * <p>
+     * Executa a requisição de forma síncrona, ou aguarda o resultado de uma requisição idêntica que já esteja em
+     * andamento.
+     * </p>
+     *
+     * @param table O nome da tabela consultada.
+     * @param uri O endereço da requisição.
+     * @param payload O JSON da query de busca.
+     * @param request A função que envia a requisição, executada apenas se não houver uma requisição idêntica em
+     *                andamento.
+     * @return O {@link IxcResponse} da requisição.
+     */
+    public IxcResponse execute(String table, String uri, String payload, Supplier<IxcResponse> request) {
+        Key key = new Key(table, uri, payload);
+        CompletableFuture<IxcResponse> created = new CompletableFuture<>();
+        CompletableFuture<IxcResponse> existing = requests.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            IxcResponse response = request.get();
+            created.complete(response);
+            return response;
+        }
+        catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            requests.remove(key, created);
+        }
+    }
+
+    /**
+     * <p>
+     * Executa a requisição de forma assíncrona, ou devolve o resultado de uma requisição idêntica que já esteja em
+     * andamento.
+     * </p>
+     *
+     * @param table O nome da tabela consultada.
+     * @param uri O endereço da requisição.
+     * @param payload O JSON da query de busca.
+     * @param request A função que envia a requisição, executada apenas se não houver uma requisição idêntica em
+     *                andamento.
+     * @return Um {@link CompletableFuture} que será completado com o {@link IxcResponse} da requisição.
+     */
+    public CompletableFuture<IxcResponse> executeAsync(String table, String uri, String payload,
+                                                       Supplier<CompletableFuture<IxcResponse>> request) {
+        Key key = new Key(table, uri, payload);
+        CompletableFuture<IxcResponse> created = new CompletableFuture<>();
+        CompletableFuture<IxcResponse> existing = requests.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return existing.copy();
+        }
+
+        try {
+            request.get().whenComplete((response, error) -> {
+                requests.remove(key, created);
+                if (error != null) {
+                    created.completeExceptionally(error);
+                }
+                else {
+                    created.complete(response);
+                }
+            });
+        }
+        catch (RuntimeException e) {
+            requests.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created.copy();
+    }
+
+    /**
+     * @param table O nome da tabela cujas listagens em andamento não devem mais ser compartilhadas.
+     */
+    public void forget(String table) {
+        requests.keySet().removeIf(key -> key.table().equals(table));
+    }
+
+    private static IxcResponse await(CompletableFuture<IxcResponse> future) {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof IxcException cause) {
+                throw cause;
+            }
+            throw new NetworkConnectionException();
+        }
+    }
+
+    private record Key(String table, String uri, String payload) {}
+}
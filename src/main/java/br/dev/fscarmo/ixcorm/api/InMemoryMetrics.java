@@ -0,0 +1,164 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.IxcRecord;
+import br.dev.fscarmo.ixcorm.api.records.LatencySnapshot;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>
+ * A classe 'InMemoryMetrics' é a implementação de {@link IxcMetrics} fornecida pela biblioteca. Ela acumula, em
+ * memória e sem bloqueios, um {@link LatencyHistogram} das requisições por tabela e método, outro da leitura do JSON
+ * das respostas e outro do mapeamento dos registros, além dos bytes enviados e recebidos, da quantidade de registros
+ * mapeados, das requisições em andamento e das falhas, agrupadas por tipo.
+ * </p>
+ *
+ * <p>
+ * As falhas de comunicação são agrupadas pelo nome da classe da exceção, e as respostas com status de erro pelas faixas
+ * <b>"HTTP_4XX"</b> e <b>"HTTP_5XX"</b>.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.1
+ * @since 2026-10-17
+ */
+public class InMemoryMetrics implements IxcMetrics {
+
+    private static final String CLIENT_ERROR = "HTTP_4XX";
+    private static final String SERVER_ERROR = "HTTP_5XX";
+
+    private final Map<String, Map<String, LatencyHistogram>> requests = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LatencyHistogram parsing = new LatencyHistogram();
+    private final LatencyHistogram mapping = new LatencyHistogram();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder rowsMapped = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+
+    @Override
+    public void onRequestStarted(String table, String method) {
+        inFlight.increment();
+    }
+
+    @Override
+    public void onRequestCompleted(String table, String method, int statusCode, long nanos, long bytesSent,
+                                   long bytesReceived) {
+        inFlight.decrement();
+        histogram(table, method).record(nanos);
+        this.bytesSent.add(Math.max(0, bytesSent));
+        this.bytesReceived.add(Math.max(0, bytesReceived));
+        if (statusCode >= 500) {
+            countError(SERVER_ERROR);
+        }
+        else if (statusCode >= 400) {
+            countError(CLIENT_ERROR);
+        }
+    }
+
+    @Override
+    public void onRequestFailed(String table, String method, Throwable error, long nanos) {
+        inFlight.decrement();
+        histogram(table, method).record(nanos);
+        countError(error.getClass().getSimpleName());
+    }
+
+    @Override
+    public void onParsed(long bytes, long nanos) {
+        parsing.record(nanos);
+    }
+
+    @Override
+    public void onMapped(Class<? extends IxcRecord> type, long nanos) {
+        mapping.record(nanos);
+        rowsMapped.increment();
+    }
+
+    /**
+     * @param table A tabela das requisições.
+     * @param method O método das requisições, sendo <b>"GET"</b> para as listagens.
+     * @return Um {@link LatencySnapshot} das requisições da tabela e do método informados.
+     */
+    public LatencySnapshot getRequestLatency(String table, String method) {
+        Map<String, LatencyHistogram> methods = requests.get(table);
+        LatencyHistogram histogram = (methods != null) ? methods.get(method) : null;
+        return (histogram != null) ? histogram.snapshot() : new LatencyHistogram().snapshot();
+    }
+
+    /**
+     * @return Um {@link LatencySnapshot} da leitura do JSON das respostas.
+     */
+    public LatencySnapshot getParseLatency() {
+        return parsing.snapshot();
+    }
+
+    /**
+     * @return Um {@link LatencySnapshot} do mapeamento de cada registro.
+     */
+    public LatencySnapshot getMappingLatency() {
+        return mapping.snapshot();
+    }
+
+    /**
+     * @return A quantidade de registros mapeados.
+     */
+    public long getRowsMapped() {
+        return rowsMapped.sum();
+    }
+
+    /**
+     * @return A quantidade de bytes enviados nos corpos das requisições.
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * @return A quantidade de bytes dos corpos das respostas transmitidos pela conexão, antes da descompactação,
+     *         quando conhecida.
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * @return A quantidade de requisições em andamento.
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * @return A quantidade de falhas, agrupadas por tipo.
+     */
+    public Map<String, Long> getErrors() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        errors.forEach((kind, count) -> snapshot.put(kind, count.sum()));
+        return snapshot;
+    }
+
+    private LatencyHistogram histogram(String table, String method) {
+        Map<String, LatencyHistogram> methods = requests.get(table);
+        if (methods == null) {
+            methods = requests.computeIfAbsent(table, t -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = methods.get(method);
+        if (histogram == null) {
+            histogram = methods.computeIfAbsent(method, m -> new LatencyHistogram());
+        }
+        return histogram;
+    }
+
+    private void countError(String kind) {
+        LongAdder count = errors.get(kind);
+        if (count == null) {
+            count = errors.computeIfAbsent(kind, k -> new LongAdder());
+        }
+        count.increment();
+    }
+}
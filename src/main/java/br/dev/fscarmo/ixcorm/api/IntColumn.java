@@ -0,0 +1,75 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * A classe 'IntColumn' armazena, em um <b>int[]</b>, uma coluna de inteiros de 32 bits, como ids e códigos.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class IntColumn extends Column {
+
+    private int[] values = new int[0];
+
+    /**
+     * @param name O nome da propriedade dos registros armazenada na coluna.
+     */
+    IntColumn(String name) {
+        super(name);
+    }
+
+    /**
+     * @param row A posição da linha.
+     * @return O valor da linha, ou <b>0</b> se a linha não possuir valor.
+     */
+    public int getInt(int row) {
+        checkIndex(row);
+        return values[row];
+    }
+
+    /**
+     * @return Uma cópia dos valores da coluna. As linhas sem valor contêm <b>0</b>.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public String getAsString(int row) {
+        return isNull(row) ? null : String.valueOf(values[row]);
+    }
+
+    @Override
+    void append(String value) {
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        }
+        catch (NumberFormatException e) {
+            appendNull();
+            return;
+        }
+        ensureCapacity(size + 1);
+        values[size++] = parsed;
+    }
+
+    @Override
+    void trim() {
+        if (values.length > size) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, grow(values.length, capacity));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.IxcRecord;
+
+
+/**
+ * <p>
+ * A interface 'IxcMetrics' recebe as medições feitas pela biblioteca durante o envio das requisições, a leitura do
+ * JSON das respostas e o mapeamento dos registros. Uma implementação pode ser definida no
+ * {@link br.dev.fscarmo.ixcorm.IxcContext}, por <b>setMetrics(IxcMetrics metrics)</b>, para exportar as medições para
+ * a ferramenta de monitoramento da aplicação. A biblioteca também fornece {@link InMemoryMetrics}, que acumula as
+ * medições em memória.
+ * </p>
+ *
+ * <p>
+ * Os métodos são invocados nas threads que executam as requisições, portanto as implementações devem ser seguras para
+ * uso concorrente e não devem bloquear. Quando nenhuma implementação está definida, nenhuma medição é feita.
+ * </p>
+ *
+ * <p>
+ * As listagens são identificadas pelo método <b>"GET"</b>, e as escritas pelo valor de
+ * {@link br.dev.fscarmo.ixcorm.enums.Method}.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.1
+ * @since 2026-10-17
+ */
+public interface IxcMetrics {
+
+    /**
+     * @param table A tabela da requisição.
+     * @param method O método da requisição.
+     */
+    default void onRequestStarted(String table, String method) {}
+
+    /**
+     * @param table A tabela da requisição.
+     * @param method O método da requisição.
+     * @param statusCode O código numérico do status da resposta.
+     * @param nanos O tempo total da requisição, incluindo as esperas e os reenvios, em nanossegundos.
+     * @param bytesSent A quantidade de bytes enviados no corpo da requisição.
+     * @param bytesReceived A quantidade de bytes do corpo da resposta transmitidos pela conexão, antes da
+     *                      descompactação, segundo o header <b>Content-Length</b>, ou <b>-1</b> se for desconhecida.
+     */
+    default void onRequestCompleted(String table, String method, int statusCode, long nanos, long bytesSent,
+                                    long bytesReceived) {}
+
+    /**
+     * @param table A tabela da requisição.
+     * @param method O método da requisição.
+     * @param error A falha que interrompeu a requisição, ou a sua causa quando ela é uma falha de comunicação.
+     * @param nanos O tempo decorrido até a falha, em nanossegundos.
+     */
+    default void onRequestFailed(String table, String method, Throwable error, long nanos) {}
+
+    /**
+     * @param bytes O tamanho do JSON lido.
+     * @param nanos O tempo de leitura do JSON, em nanossegundos.
+     */
+    default void onParsed(long bytes, long nanos) {}
+
+    /**
+     * @param type A classe do registro mapeado.
+     * @param nanos O tempo de mapeamento do registro, em nanossegundos.
+     */
+    default void onMapped(Class<? extends IxcRecord> type, long nanos) {}
+}
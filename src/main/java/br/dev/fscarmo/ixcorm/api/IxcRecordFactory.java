@@ -4,7 +4,11 @@ package br.dev.fscarmo.ixcorm.api;
 import br.dev.fscarmo.ixcorm.IxcRecord;
 import com.google.gson.JsonElement;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Optional;
 
 
 /**
@@ -12,8 +16,13 @@ import java.lang.reflect.InvocationTargetException;
  * A classe 'IxcRecordFactory' concentra a lógica de instanciação dinâmica dos tipos derivados de {@link IxcRecord}.
  * </p>
  *
+ * <p>
+ * O construtor <b>(JsonElement data)</b> de cada tipo é resolvido por reflexão apenas uma vez e mantido em cache como
+ * um {@link MethodHandle}, compartilhado por todas as instâncias de 'IxcRecordFactory' do mesmo tipo.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 1.0.0
+ * @version 1.1.1
  * @since 2025-09-28
  *
  * @param <T> Qualquer subclasse de {@link IxcRecord}.
@@ -21,7 +30,17 @@ import java.lang.reflect.InvocationTargetException;
 @SuppressWarnings("ClassCanBeRecord")
 public class IxcRecordFactory<T extends IxcRecord> {
 
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(IxcRecord.class, JsonElement.class);
+
+    private static final ClassValue<Optional<MethodHandle>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            return findConstructor(type);
+        }
+    };
+
     private final Class<T> mapperClass;
+    private final MethodHandle constructor;
 
     /**
      * @param mapperClass Um Class< T >. Onde T é o tipo da classe que se deseja mapear. < T > deve herdar de
@@ -29,6 +48,7 @@ public class IxcRecordFactory<T extends IxcRecord> {
      */
     public IxcRecordFactory(Class<T> mapperClass) {
         this.mapperClass = mapperClass;
+        this.constructor = CONSTRUCTORS.get(mapperClass).orElse(null);
     }
 
     /**
@@ -39,14 +59,34 @@ public class IxcRecordFactory<T extends IxcRecord> {
      * @param data Um {@link JsonElement} com as propriedades que se deseja mapear do parâmetro
      *             <b>(JsonElement data).</b>
      * @return Um < T >, onde < T > é o tipo da classe que será mapeada.
+     * @throws IllegalArgumentException Se a classe não declarar o construtor <b>(JsonElement data)</b>.
+     * @throws IllegalStateException Se o construtor lançar uma exceção verificada.
      */
     public T newRecord(JsonElement data) {
+        if (constructor == null) {
+            throw new IllegalArgumentException("A classe " + mapperClass.getName() + " não declara o construtor "
+                    + mapperClass.getSimpleName() + "(" + JsonElement.class.getName() + " data)");
+        }
+        try {
+            return mapperClass.cast((IxcRecord) constructor.invokeExact(data));
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new IllegalStateException("Não foi possível instanciar a classe " + mapperClass.getName(), e);
+        }
+    }
+
+    private static Optional<MethodHandle> findConstructor(Class<?> type) {
         try {
-            return mapperClass.getDeclaredConstructor(JsonElement.class).newInstance(data);
+            Constructor<?> declared = type.getDeclaredConstructor(JsonElement.class);
+            declared.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(declared).asType(CONSTRUCTOR_TYPE);
+            return Optional.of(handle);
         }
-        catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            System.out.println(e.getMessage());
-            return null;
+        catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return Optional.empty();
         }
     }
 }
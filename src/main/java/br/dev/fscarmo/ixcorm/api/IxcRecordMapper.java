@@ -1,14 +1,22 @@
 package br.dev.fscarmo.ixcorm.api;
 
 
+import br.dev.fscarmo.ixcorm.IxcContext;
 import br.dev.fscarmo.ixcorm.IxcRecord;
+import br.dev.fscarmo.ixcorm.LazyRecord;
 import com.google.gson.JsonElement;
 import com.google.gson.annotations.SerializedName;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 
 /**
@@ -18,12 +26,51 @@ import java.util.List;
  * {@link IxcRecord}.
  * </p>
  *
+ * <p>
+ * A reflexão sobre cada classe acontece apenas uma vez. Na primeira vez que uma classe é mapeada, é construído um
+ * plano de mapeamento com o identificador JSON de cada propriedade, o conversor do seu tipo e um {@link MethodHandle}
+ * de escrita. O plano fica armazenado em cache e, a partir daí, mapear um registro custa apenas as escritas nas
+ * propriedades. Quando o {@link MethodHandle} de escrita não pode ser obtido diretamente, como em algumas propriedades
+ * <b>final</b>, a escrita é feita através de {@link Field#set(Object, Object)}.
+ * </p>
+ *
+ * <p>
+ * Quando uma implementação de {@link IxcMetrics} está definida no {@link IxcContext}, o tempo de mapeamento de cada
+ * registro é informado a ela.
+ * </p>
+ *
+ * <p>
+ * Os registros anotados com {@link LazyRecord} não são mapeados por <b>map(IxcRecord target)</b>: cada propriedade é
+ * mapeada individualmente, por <b>mapField(IxcRecord target, int index)</b>, na primeira vez que é acessada.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 1.0.0
+ * @version 2.2.1
  * @since 2025-10-01
  */
 public abstract class IxcRecordMapper {
 
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, IxcRecord.class, Object.class);
+
+    private static final MethodHandle FIELD_SET;
+
+    static {
+        try {
+            FIELD_SET = MethodHandles.lookup().findStatic(IxcRecordMapper.class, "setField",
+                    MethodType.methodType(void.class, Field.class, IxcRecord.class, Object.class));
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final ClassValue<MappingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected MappingPlan computeValue(Class<?> type) {
+            return createMappingPlan(type);
+        }
+    };
+
     /**
      * <p>
      * Mapeia as propriedades declaradas em uma classe que herde de {@link IxcRecord}, baseando-se nas propriedades do
@@ -41,106 +88,110 @@ public abstract class IxcRecordMapper {
      *               instância.
      */
     public static void map(IxcRecord target) {
-        List<Field> fields = getAllClassFields(target.getClass());
-        for (Field field : fields) {
-            try {
-                field.setAccessible(true);
-                mapRecordFieldsByTypes(target, field);
-            }
-            catch (IllegalAccessException e) {
-                System.out.println(e.getCause().getMessage());
-            }
-        }
-    }
-
-    private static List<Field> getAllClassFields(Class<? extends IxcRecord> targetClass) {
-        List<Field> fields = new ArrayList<>();
+        IxcMetrics metrics = IxcContext.INSTANCE.getMetrics();
+        long start = (metrics != null) ? System.nanoTime() : 0;
 
-        Field[] currentFields;
-        Class<?> currentClass = targetClass;
-
-        while (currentClass != null && currentClass != Object.class) {
-            currentFields = currentClass.getDeclaredFields();
-            currentClass = currentClass.getSuperclass();
-            fields.addAll(Arrays.asList(currentFields));
+        for (FieldMapping mapping : PLANS.get(target.getClass()).mappings()) {
+            apply(mapping, target);
         }
 
-        return fields;
+        if (metrics != null) {
+            metrics.onMapped(target.getClass(), System.nanoTime() - start);
+        }
     }
 
-    private static void mapRecordFieldsByTypes(IxcRecord record, Field field) throws IllegalAccessException {
-        switch (field.getType().getName()) {
-            case "java.math.BigDecimal":
-                setRecordFieldValueAsBigDecimal(record, field);
-                break;
-
-            case "java.math.BigInteger":
-                setRecordFieldValueAsBigInt(record, field);
-                break;
-
-            case "java.lang.Boolean", "boolean":
-                setRecordFieldValueAsBoolean(record, field);
-                break;
+    /**
+     * @param type Uma classe que herde de {@link IxcRecord}.
+     * @return <b>true</b> se a classe estiver anotada com {@link LazyRecord}.
+     */
+    public static boolean isLazy(Class<? extends IxcRecord> type) {
+        return PLANS.get(type).lazy();
+    }
 
-            case "java.lang.Integer", "int":
-                setRecordFieldValueAsInt(record, field);
-                break;
+    /**
+     * @param type Uma classe que herde de {@link IxcRecord}.
+     * @param field O nome de uma propriedade, como declarado na classe.
+     * @return A posição da propriedade no plano de mapeamento da classe, ou <b>-1</b> se a propriedade não for mapeada.
+     */
+    public static int getFieldIndex(Class<? extends IxcRecord> type, String field) {
+        Integer index = PLANS.get(type).indexes().get(field);
+        return (index != null) ? index : -1;
+    }
 
-            case "java.lang.Long":
-                setRecordFieldValueAsLong(record, field);
-                break;
+    /**
+     * <p>
+     * Mapeia uma única propriedade do registro, a partir do seu {@link JsonElement}.
+     * </p>
+     *
+     * @param target Um objeto que herde de {@link IxcRecord}.
+     * @param index A posição da propriedade, obtida por <b>getFieldIndex(Class< ? > type, String field)</b>.
+     */
+    public static void mapField(IxcRecord target, int index) {
+        apply(PLANS.get(target.getClass()).mappings().get(index), target);
+    }
 
-            case "java.lang.String":
-                setRecordFieldValueAsString(record, field);
-                break;
+    private static void apply(FieldMapping mapping, IxcRecord target) {
+        try {
+            mapping.apply(target);
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new IllegalStateException("Não foi possível mapear a propriedade " + mapping.identifier(), e);
         }
     }
 
-    private static void setRecordFieldValueAsBigDecimal(IxcRecord record, Field field) throws IllegalAccessException {
-        String identifier = getRealFieldIdentifier(field);
-        JsonElement element = record.getJsonElement(identifier);
-        if (element != null) {
-            field.set(record, element.getAsBigDecimal());
-        };
+    private static MappingPlan createMappingPlan(Class<?> targetClass) {
+        List<FieldMapping> mappings = new ArrayList<>();
+        Map<String, Integer> indexes = new HashMap<>();
+        for (Field field : getAllClassFields(targetClass)) {
+            Function<JsonElement, Object> converter = getConverterByType(field.getType());
+            if (converter == null || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            indexes.putIfAbsent(field.getName(), mappings.size());
+            mappings.add(new FieldMapping(getRealFieldIdentifier(field), converter, createSetter(field)));
+        }
+        boolean lazy = targetClass.isAnnotationPresent(LazyRecord.class);
+        return new MappingPlan(List.copyOf(mappings), Map.copyOf(indexes), lazy);
     }
 
-    private static void setRecordFieldValueAsBigInt(IxcRecord record, Field field) throws IllegalAccessException {
-        String identifier = getRealFieldIdentifier(field);
-        JsonElement element = record.getJsonElement(identifier);
-        if (element != null) {
-            field.set(record, element.getAsBigInteger());
-        };
+    private static MethodHandle createSetter(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+        }
+        catch (IllegalAccessException e) {
+            return FIELD_SET.bindTo(field);
+        }
     }
 
-    private static void setRecordFieldValueAsBoolean(IxcRecord record, Field field) throws IllegalAccessException {
-        String identifier = getRealFieldIdentifier(field);
-        JsonElement element = record.getJsonElement(identifier);
-        if (element != null) {
-            field.set(record, element.getAsBoolean());
-        };
+    private static void setField(Field field, IxcRecord target, Object value) throws IllegalAccessException {
+        field.set(target, value);
     }
 
-    private static void setRecordFieldValueAsLong(IxcRecord record, Field field) throws IllegalAccessException {
-        String identifier = getRealFieldIdentifier(field);
-        JsonElement element = record.getJsonElement(identifier);
-        if (element != null) {
-            field.set(record, element.getAsLong());
-        };
-    }
+    private static List<Field> getAllClassFields(Class<?> targetClass) {
+        List<Field> fields = new ArrayList<>();
+        Class<?> currentClass = targetClass;
 
-    private static void setRecordFieldValueAsString(IxcRecord record, Field field) throws IllegalAccessException {
-        String identifier = getRealFieldIdentifier(field);
-        JsonElement element = record.getJsonElement(identifier);
-        if (element != null) {
-            field.set(record, element.getAsString());
-        };
+        while (currentClass != null && currentClass != Object.class) {
+            fields.addAll(List.of(currentClass.getDeclaredFields()));
+            currentClass = currentClass.getSuperclass();
+        }
+
+        return fields;
     }
 
-    private static void setRecordFieldValueAsInt(IxcRecord record, Field field) throws IllegalAccessException {
-        String identifier = getRealFieldIdentifier(field);
-        JsonElement element = record.getJsonElement(identifier);
-        if (element != null) {
-            field.set(record, element.getAsInt());
+    private static Function<JsonElement, Object> getConverterByType(Class<?> type) {
+        return switch (type.getName()) {
+            case "java.math.BigDecimal" -> JsonElement::getAsBigDecimal;
+            case "java.math.BigInteger" -> JsonElement::getAsBigInteger;
+            case "java.lang.Boolean", "boolean" -> JsonElement::getAsBoolean;
+            case "java.lang.Integer", "int" -> JsonElement::getAsInt;
+            case "java.lang.Long" -> JsonElement::getAsLong;
+            case "java.lang.String" -> JsonElement::getAsString;
+            default -> null;
         };
     }
 
@@ -155,4 +206,17 @@ public abstract class IxcRecordMapper {
         SerializedName serializedName = field.getAnnotation(SerializedName.class);
         return serializedName.value();
     }
+
+    private record MappingPlan(List<FieldMapping> mappings, Map<String, Integer> indexes, boolean lazy) {
+    }
+
+    private record FieldMapping(String identifier, Function<JsonElement, Object> converter, MethodHandle setter) {
+
+        void apply(IxcRecord record) throws Throwable {
+            JsonElement element = record.getJsonElement(identifier);
+            if (element != null) {
+                setter.invokeExact(record, converter.apply(element));
+            }
+        }
+    }
 }
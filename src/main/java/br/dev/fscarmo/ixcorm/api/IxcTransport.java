@@ -0,0 +1,254 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * <p>
+ * A classe 'IxcTransport' encapsula um único {@link HttpClient} de longa duração, que deve ser compartilhado por todas
+ * as requisições enviadas para a API do IXC Provedor. Dessa forma, as conexões TCP/TLS são mantidas abertas
+ * (keep-alive) e reutilizadas entre as requisições, evitando um novo handshake a cada chamada.
+ * </p>
+ *
+ * <p>
+ * Por padrão, o transporte negocia HTTP/2 com o servidor e, caso o servidor do IXC Provedor não o suporte, utiliza
+ * HTTP/1.1 automaticamente. O tempo máximo de inatividade de uma conexão mantida no pool pode ser ajustado pela
+ * propriedade de sistema <b>jdk.httpclient.keepalive.timeout</b>.
+ * </p>
+ *
+ * <p>
+ * Também por padrão, as requisições informam ao servidor, pelo header <b>Accept-Encoding: gzip</b>, que aceitam
+ * respostas compactadas, que são descompactadas pelos manipuladores de {@link GzipBodyHandlers}.
+ * </p>
+ *
+ * <p>
+ * Um transporte que não será mais utilizado deve ser fechado por <b>close()</b>, que encerra as conexões mantidas
+ * pelo {@link HttpClient} e, quando criado por <b>Builder.virtualThreads()</b>, o seu {@link Executor}.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.3.1
+ * @since 2026-10-17
+ */
+public class IxcTransport implements AutoCloseable {
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client;
+    private final ExecutorService ownedExecutor;
+    private final Duration requestTimeout;
+    private final boolean compression;
+
+    private IxcTransport(Builder builder) {
+        HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+                .version(builder.version)
+                .connectTimeout(builder.connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+
+        this.ownedExecutor = builder.virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        Executor executor = (ownedExecutor != null) ? ownedExecutor : builder.executor;
+        if (executor != null) {
+            clientBuilder.executor(executor);
+        }
+
+        this.client = clientBuilder.build();
+        this.requestTimeout = builder.requestTimeout;
+        this.compression = builder.compression;
+    }
+
+    /**
+     * @return Uma nova instância de {@link Builder}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @return Um novo {@link IxcTransport} com as configurações padrão.
+     */
+    public static IxcTransport defaults() {
+        return newBuilder().build();
+    }
+
+    /**
+     * <p>
+     * Envia uma requisição de forma síncrona, reutilizando as conexões mantidas pelo {@link HttpClient} interno.
+     * </p>
+     *
+     * @param request A requisição a ser enviada.
+     * @param handler O manipulador do corpo da resposta.
+     * @return A resposta HTTP obtida do IXC Provedor.
+     * @throws IOException Se ocorrer alguma falha de I/O durante o envio ou recebimento.
+     * @throws InterruptedException Se a thread for interrompida enquanto aguarda a resposta.
+     */
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        return client.send(request, handler);
+    }
+
+    /**
+     * <p>
+     * Envia uma requisição de forma assíncrona, sem bloquear a thread que a invocou.
+     * </p>
+     *
+     * @param request A requisição a ser enviada.
+     * @param handler O manipulador do corpo da resposta.
+     * @return Um {@link CompletableFuture} que será completado com a resposta HTTP obtida do IXC Provedor.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        return client.sendAsync(request, handler);
+    }
+
+    /**
+     * @return O tempo máximo de espera pela resposta de cada requisição.
+     */
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * @return <b>true</b> se as requisições devem solicitar respostas compactadas com gzip.
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    /**
+     * @return O {@link HttpClient} compartilhado por este transporte.
+     */
+    public HttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * <p>
+     * Fecha o {@link HttpClient} do transporte, aguardando as requisições em andamento e encerrando as conexões
+     * mantidas no pool. Quando o {@link Executor} foi criado por <b>Builder.virtualThreads()</b>, ele também é
+     * encerrado. As requisições enviadas depois do fechamento falham com uma {@link IOException}.
+     * </p>
+     */
+    @Override
+    public void close() {
+        client.close();
+        if (ownedExecutor != null) {
+            ownedExecutor.close();
+        }
+    }
+
+    /**
+     * <p>
+     * A classe 'Builder' constrói uma instância de {@link IxcTransport}, permitindo configurar a versão do protocolo,
+     * os tempos de espera e o {@link Executor} utilizado pelo {@link HttpClient}.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.1.1
+     * @since 2026-10-17
+     */
+    public static class Builder {
+
+        private HttpClient.Version version;
+        private Duration connectTimeout;
+        private Duration requestTimeout;
+        private Executor executor;
+        private boolean virtualThreads;
+        private boolean compression;
+
+        private Builder() {
+            version = HttpClient.Version.HTTP_2;
+            connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+            requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+            executor = null;
+            virtualThreads = false;
+            compression = true;
+        }
+
+        /**
+         * @param version A versão preferida do protocolo HTTP. O padrão é {@link HttpClient.Version#HTTP_2}.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder version(HttpClient.Version version) {
+            if (version != null) {
+                this.version = version;
+            }
+            return this;
+        }
+
+        /**
+         * @param connectTimeout O tempo máximo para estabelecer uma nova conexão com o servidor.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            if (connectTimeout != null) {
+                this.connectTimeout = connectTimeout;
+            }
+            return this;
+        }
+
+        /**
+         * @param requestTimeout O tempo máximo de espera pela resposta de cada requisição.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            if (requestTimeout != null) {
+                this.requestTimeout = requestTimeout;
+            }
+            return this;
+        }
+
+        /**
+         * @param executor O {@link Executor} que o {@link HttpClient} utilizará nas tarefas assíncronas. Quando não
+         *                 definido, o {@link HttpClient} utiliza o seu próprio pool de threads. O {@link Executor}
+         *                 informado pertence à aplicação, e não é encerrado pelo transporte.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            this.virtualThreads = false;
+            return this;
+        }
+
+        /**
+         * <p>
+         * Configura o {@link HttpClient} para executar as tarefas assíncronas em <i>virtual threads</i>, criando uma
+         * nova thread virtual por tarefa. Recomendado quando muitas requisições assíncronas são mantidas em andamento
+         * ao mesmo tempo. Cada transporte construído cria o seu próprio {@link Executor}, que é encerrado por
+         * <b>close()</b>, junto com o transporte.
+         * </p>
+         *
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder virtualThreads() {
+            this.executor = null;
+            this.virtualThreads = true;
+            return this;
+        }
+
+        /**
+         * @param compression Se <b>false</b>, as requisições não solicitam respostas compactadas. O padrão é
+         *                    <b>true</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder compression(boolean compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        /**
+         * @return Uma nova instância de {@link IxcTransport}.
+         */
+        public IxcTransport build() {
+            return new IxcTransport(this);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.IxcRecord;
+import br.dev.fscarmo.ixcorm.IxcResponseStream;
+import br.dev.fscarmo.ixcorm.exception.ListingException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+
+/**
+ * <p>
+ * A classe 'KeysetIterator' percorre todos os registros de uma consulta ao IXC Provedor por paginação <i>keyset</i>:
+ * em vez de avançar o número da página, cada página é buscada com o filtro <b>id > último id lido</b>, com os
+ * registros ordenados pelo id. Assim, o banco de dados do IXC Provedor não precisa descartar os registros das páginas
+ * anteriores, e o tempo de resposta de cada página se mantém constante durante toda a varredura.
+ * </p>
+ *
+ * <p>
+ * Como cada página parte do último id lido, inserções e remoções feitas durante a varredura não deslocam registros
+ * entre as páginas: nenhum registro existente é lido duas vezes ou deixado de fora. A iteração termina quando uma
+ * página retorna menos registros do que o solicitado, e uma página de falha a interrompe com uma
+ * {@link ListingException}. Quando a iteração é interrompida antes do fim, a instância deve ser fechada, para liberar
+ * a conexão da página atual.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.2.0
+ * @since 2026-10-17
+ *
+ * @param <T> Qualquer subclasse de {@link IxcRecord}.
+ */
+public class KeysetIterator<T extends IxcRecord> implements Iterator<T>, AutoCloseable {
+
+    private final Function<Integer, IxcResponseStream<T>> fetcher;
+    private final int rows;
+    private IxcResponseStream<T> current;
+    private Integer lastId;
+    private boolean finished;
+
+    /**
+     * @param fetcher Uma função que recebe o último id lido (<b>null</b> na primeira página) e devolve o
+     *                {@link IxcResponseStream} dos registros com id maior que ele, ordenados pelo id.
+     * @param rows A quantidade de registros por página.
+     */
+    public KeysetIterator(Function<Integer, IxcResponseStream<T>> fetcher, int rows) {
+        this.fetcher = fetcher;
+        this.rows = rows;
+        this.current = null;
+        this.lastId = null;
+        this.finished = false;
+    }
+
+    /**
+     * @return O id do último registro lido, ou <b>null</b> se nenhum registro foi lido.
+     */
+    public Integer getLastId() {
+        return lastId;
+    }
+
+    /**
+     * @throws ListingException Se a página buscada for uma resposta de falha do IXC Provedor.
+     */
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        while (current == null || !current.hasNext()) {
+            if (current != null) {
+                current.close();
+                if (current.getCount() < rows) {
+                    finished = true;
+                    return false;
+                }
+            }
+            current = fetcher.apply(lastId);
+            if (current.isError()) {
+                close();
+                throw new ListingException(current.getStatusCode(), current.getMessage());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T record = current.next();
+        Integer id = record.getId();
+        if (id == null) {
+            current.close();
+            throw new IllegalStateException("A paginação keyset exige que todos os registros possuam id");
+        }
+        lastId = id;
+        return record;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.api.records.LatencySnapshot;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>
+ * A classe 'LatencyHistogram' acumula latências em faixas logarítmicas, sem bloqueios e sem alocar objetos a cada
+ * registro. Cada potência de 2 é dividida em 4 faixas, de modo que os percentis são estimados com um erro máximo de
+ * 25%, em qualquer ordem de grandeza.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = 62 * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param nanos Uma latência, em nanossegundos.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        total.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return Um {@link LatencySnapshot} com a quantidade, a média, os percentis e o máximo das latências registradas.
+     */
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        long maxNanos = max.get();
+        double mean = (recorded > 0) ? (double) total.sum() / count.sum() : 0;
+        return new LatencySnapshot(recorded, mean,
+                percentile(counts, recorded, 0.50, maxNanos),
+                percentile(counts, recorded, 0.95, maxNanos),
+                percentile(counts, recorded, 0.99, maxNanos),
+                maxNanos);
+    }
+
+    private static long percentile(long[] counts, long recorded, double percentile, long maxNanos) {
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * recorded);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(maxNanos, lowerBoundOf(i + 1) - 1);
+            }
+        }
+        return maxNanos;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return Math.min(BUCKETS - 1, (exponent - 1) * SUB_BUCKETS + sub);
+    }
+
+    private static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        if (bucket >= BUCKETS) {
+            return Long.MAX_VALUE;
+        }
+        int exponent = bucket / SUB_BUCKETS + 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << (exponent - 2);
+    }
+}
@@ -0,0 +1,80 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * <p>
+ * A classe 'LatencyTracker' mantém, em um buffer circular sem bloqueios, as latências mais recentes das requisições,
+ * para que percentis como o p95 possam ser estimados a partir do comportamento observado do servidor.
+ * </p>
+ *
+ * <p>
+ * Como o percentil é consultado a cada requisição, a estimativa é mantida em cache e só é recalculada (ordenando as
+ * latências do buffer) depois que 32 novas latências são registradas.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class LatencyTracker {
+
+    private static final int REFRESH_INTERVAL = 32;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count;
+    private final int minSamples;
+    private volatile Estimate estimate;
+
+    /**
+     * @param capacity A quantidade de latências mais recentes mantidas no buffer.
+     * @param minSamples A quantidade mínima de latências registradas para que um percentil seja estimado.
+     */
+    public LatencyTracker(int capacity, int minSamples) {
+        this.samples = new AtomicLongArray(Math.max(1, capacity));
+        this.count = new AtomicLong();
+        this.minSamples = Math.max(1, minSamples);
+    }
+
+    /**
+     * @param nanos A latência de uma requisição, em nanossegundos.
+     */
+    public void record(long nanos) {
+        long index = count.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+    }
+
+    /**
+     * @param percentile O percentil desejado, entre 0 e 1 (por exemplo, 0.95).
+     * @return A latência do percentil, em nanossegundos, ou <b>-1</b> se ainda não houver latências suficientes.
+     */
+    public long percentile(double percentile) {
+        long recorded = count.get();
+        Estimate cached = estimate;
+        if (cached != null && cached.percentile() == percentile && recorded - cached.count() < REFRESH_INTERVAL) {
+            return cached.nanos();
+        }
+
+        int size = (int) Math.min(recorded, samples.length());
+        if (size < minSamples) {
+            return -1;
+        }
+
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+
+        int index = (int) Math.ceil(percentile * size) - 1;
+        long nanos = sorted[Math.max(0, Math.min(size - 1, index))];
+        estimate = new Estimate(percentile, recorded, nanos);
+        return nanos;
+    }
+
+    private record Estimate(double percentile, long count, long nanos) {}
+}
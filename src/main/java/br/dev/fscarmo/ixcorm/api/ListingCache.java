@@ -0,0 +1,262 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.IxcResponse;
+import br.dev.fscarmo.ixcorm.api.records.CacheStats;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>
+ * A classe 'ListingCache' é um cache de leitura, em memória, para as respostas das requisições de listagem. Cada
+ * entrada é identificada pela tabela e pelo JSON da query de busca, e expira após o tempo de vida configurado para a
+ * sua tabela. Quando a quantidade máxima de entradas é alcançada, a entrada usada há mais tempo é removida (LRU).
+ * </p>
+ *
+ * <p>
+ * Apenas as tabelas com um tempo de vida configurado, seja por <b>ttl(String table, Duration ttl)</b> ou por
+ * <b>defaultTtl(Duration ttl)</b>, são armazenadas. Toda requisição de escrita (POST, PUT ou DELETE) em uma tabela
+ * invalida as entradas dessa tabela, inclusive as respostas de listagens que ainda estavam em andamento no momento da
+ * escrita, para que uma leitura em cache nunca sobreviva a uma escrita feita pela própria aplicação.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ListingCache {
+
+    private final int maxEntries;
+    private final Duration defaultTtl;
+    private final Map<String, Duration> ttls;
+    private final Map<String, AtomicLong> generations;
+    private final LinkedHashMap<Key, Entry> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    private ListingCache(Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.defaultTtl = builder.defaultTtl;
+        this.ttls = Map.copyOf(builder.ttls);
+        this.generations = new ConcurrentHashMap<>();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * @return Uma nova instância de {@link Builder}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @param table O nome da tabela consultada.
+     * @return <b>true</b> se as listagens da tabela devem ser armazenadas em cache.
+     */
+    public boolean isCacheable(String table) {
+        Duration ttl = getTtl(table);
+        return !ttl.isZero() && !ttl.isNegative();
+    }
+
+    /**
+     * @param table O nome da tabela consultada.
+     * @param payload O JSON da query de busca.
+     * @return O {@link IxcResponse} armazenado para a query, ou <b>null</b> se não existir ou tiver expirado.
+     */
+    public IxcResponse get(String table, String payload) {
+        Key key = new Key(Utils.Text.normalize(table), payload);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired()) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new IxcResponse(entry.statusCode(), entry.body());
+    }
+
+    /**
+     * <p>
+     * Retorna a geração atual da tabela. A geração deve ser obtida antes do envio da requisição de listagem e
+     * repassada para <b>put(...)</b>, que descartará a resposta se alguma escrita tiver ocorrido nesse intervalo.
+     * </p>
+     *
+     * @param table O nome da tabela consultada.
+     * @return A geração atual da tabela.
+     */
+    public long generation(String table) {
+        return getGeneration(Utils.Text.normalize(table)).get();
+    }
+
+    /**
+     * <p>
+     * Armazena a resposta de uma listagem. Respostas com status diferente de 2xx não são armazenadas.
+     * </p>
+     *
+     * @param table O nome da tabela consultada.
+     * @param payload O JSON da query de busca.
+     * @param statusCode O código numérico do status da resposta.
+     * @param body O corpo da resposta.
+     * @param generation A geração da tabela obtida antes do envio da requisição.
+     */
+    public void put(String table, String payload, int statusCode, String body, long generation) {
+        String normalizedTable = Utils.Text.normalize(table);
+        Duration ttl = getTtl(normalizedTable);
+        if (ttl.isZero() || ttl.isNegative() || statusCode < 200 || statusCode >= 300) {
+            return;
+        }
+
+        long expiresAt = System.nanoTime() + ttl.toNanos();
+        synchronized (entries) {
+            if (getGeneration(normalizedTable).get() != generation) {
+                return;
+            }
+            entries.put(new Key(normalizedTable, payload), new Entry(statusCode, body, expiresAt));
+            evictEldestEntries();
+        }
+    }
+
+    /**
+     * <p>
+     * Remove todas as entradas da tabela e descarta as respostas de listagens dessa tabela que ainda estão em
+     * andamento.
+     * </p>
+     *
+     * @param table O nome da tabela cujas entradas devem ser removidas.
+     */
+    public void invalidate(String table) {
+        String normalizedTable = Utils.Text.normalize(table);
+        synchronized (entries) {
+            getGeneration(normalizedTable).incrementAndGet();
+            entries.keySet().removeIf(key -> key.table().equals(normalizedTable));
+        }
+    }
+
+    /**
+     * Remove todas as entradas do cache.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generations.values().forEach(AtomicLong::incrementAndGet);
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return Um {@link CacheStats} com a quantidade de acertos, falhas, remoções por limite de tamanho e o tamanho
+     *         atual do cache.
+     */
+    public CacheStats getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private Duration getTtl(String table) {
+        return ttls.getOrDefault(Utils.Text.normalize(table), defaultTtl);
+    }
+
+    private AtomicLong getGeneration(String normalizedTable) {
+        return generations.computeIfAbsent(normalizedTable, t -> new AtomicLong());
+    }
+
+    private void evictEldestEntries() {
+        var iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Key(String table, String payload) {}
+
+    private record Entry(int statusCode, String body, long expiresAt) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+
+    /**
+     * <p>
+     * A classe 'Builder' constrói uma instância de {@link ListingCache}, permitindo configurar a quantidade máxima de
+     * entradas e o tempo de vida das entradas de cada tabela.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     */
+    public static class Builder {
+
+        private final Map<String, Duration> ttls;
+        private Duration defaultTtl;
+        private int maxEntries;
+
+        private Builder() {
+            ttls = new HashMap<>();
+            defaultTtl = Duration.ZERO;
+            maxEntries = 1_000;
+        }
+
+        /**
+         * @param maxEntries A quantidade máxima de entradas mantidas no cache.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = Math.max(1, maxEntries);
+            return this;
+        }
+
+        /**
+         * @param ttl O tempo de vida das entradas das tabelas sem um tempo de vida específico. O padrão é zero, ou
+         *            seja, apenas as tabelas configuradas em <b>ttl(String table, Duration ttl)</b> são armazenadas.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder defaultTtl(Duration ttl) {
+            if (ttl != null) {
+                this.defaultTtl = ttl;
+            }
+            return this;
+        }
+
+        /**
+         * @param table O nome da tabela.
+         * @param ttl O tempo de vida das entradas da tabela.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder ttl(String table, Duration ttl) {
+            if (ttl != null) {
+                ttls.put(Utils.Text.normalize(table), ttl);
+            }
+            return this;
+        }
+
+        /**
+         * @return Uma nova instância de {@link ListingCache}.
+         */
+        public ListingCache build() {
+            return new ListingCache(this);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * A classe 'LongColumn' armazena, em um <b>long[]</b>, uma coluna de inteiros de 64 bits, como timestamps e valores
+ * que não cabem em um <b>int</b>.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class LongColumn extends Column {
+
+    private long[] values = new long[0];
+
+    /**
+     * @param name O nome da propriedade dos registros armazenada na coluna.
+     */
+    LongColumn(String name) {
+        super(name);
+    }
+
+    /**
+     * @param row A posição da linha.
+     * @return O valor da linha, ou <b>0</b> se a linha não possuir valor.
+     */
+    public long getLong(int row) {
+        checkIndex(row);
+        return values[row];
+    }
+
+    /**
+     * @return Uma cópia dos valores da coluna. As linhas sem valor contêm <b>0</b>.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public String getAsString(int row) {
+        return isNull(row) ? null : String.valueOf(values[row]);
+    }
+
+    @Override
+    void append(String value) {
+        long parsed;
+        try {
+            parsed = Long.parseLong(value.trim());
+        }
+        catch (NumberFormatException e) {
+            appendNull();
+            return;
+        }
+        ensureCapacity(size + 1);
+        values[size++] = parsed;
+    }
+
+    @Override
+    void trim() {
+        if (values.length > size) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, grow(values.length, capacity));
+        }
+    }
+}
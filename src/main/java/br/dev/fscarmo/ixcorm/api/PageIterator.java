@@ -0,0 +1,104 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.IxcRecord;
+import br.dev.fscarmo.ixcorm.IxcResponseStream;
+import br.dev.fscarmo.ixcorm.exception.ListingException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+
+/**
+ * <p>
+ * A classe 'PageIterator' percorre todos os registros de uma consulta ao IXC Provedor, buscando a próxima página
+ * apenas quando os registros da página atual já foram consumidos. A iteração termina quando a quantidade de registros
+ * lidos alcança o <b>total</b> informado pela API, ou quando uma página vazia é retornada. Uma página de falha
+ * interrompe a iteração com uma {@link ListingException}, em vez de ser tratada como a última página.
+ * </p>
+ *
+ * <p>
+ * Cada página é lida por um {@link IxcResponseStream}, que decodifica um registro de cada vez diretamente da conexão.
+ * Portanto, uma varredura completa de uma tabela consome memória constante, independente da quantidade de registros
+ * por página ou do total de registros.
+ * </p>
+ *
+ * <p>
+ * Quando a iteração é interrompida antes do fim, a instância deve ser fechada, para liberar a conexão da página
+ * atual.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.3.0
+ * @since 2026-10-17
+ *
+ * @param <T> Qualquer subclasse de {@link IxcRecord}.
+ */
+public class PageIterator<T extends IxcRecord> implements Iterator<T>, AutoCloseable {
+
+    private final IntFunction<IxcResponseStream<T>> fetcher;
+    private final int rows;
+    private IxcResponseStream<T> current;
+    private int currentPage;
+    private int nextPage;
+    private boolean closed;
+
+    /**
+     * @param fetcher Uma função que recebe o número de uma página e devolve o {@link IxcResponseStream} dessa página.
+     * @param firstPage O número da primeira página a ser buscada.
+     * @param rows A quantidade de registros por página.
+     */
+    public PageIterator(IntFunction<IxcResponseStream<T>> fetcher, int firstPage, int rows) {
+        this.fetcher = fetcher;
+        this.rows = rows;
+        this.current = null;
+        this.nextPage = firstPage;
+    }
+
+    /**
+     * @throws ListingException Se a página buscada for uma resposta de falha do IXC Provedor.
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        while (current == null || !current.hasNext()) {
+            if (current != null) {
+                current.close();
+                if (isLastPage()) {
+                    closed = true;
+                    return false;
+                }
+            }
+            currentPage = nextPage++;
+            current = fetcher.apply(currentPage);
+            if (current.isError()) {
+                close();
+                throw new ListingException(current.getStatusCode(), current.getMessage());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private boolean isLastPage() {
+        return current.getCount() < rows || (long) currentPage * rows >= current.getTotal();
+    }
+}
@@ -0,0 +1,143 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.IxcRecord;
+import br.dev.fscarmo.ixcorm.IxcResponseBody;
+import br.dev.fscarmo.ixcorm.exception.IxcException;
+import br.dev.fscarmo.ixcorm.exception.NetworkConnectionException;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.IntFunction;
+
+
+/**
+ * <p>
+ * A classe 'PageScanner' percorre todos os registros de uma consulta ao IXC Provedor, buscando várias páginas ao mesmo
+ * tempo. A primeira página é buscada de forma síncrona, para descobrir o <b>total</b> de registros e, a partir dele,
+ * a quantidade de páginas. As páginas restantes são requisitadas de forma assíncrona, mantendo no máximo
+ * <b>parallelism</b> páginas em andamento ou aguardando consumo.
+ * </p>
+ *
+ * <p>
+ * No modo ordenado, os registros são entregues na mesma ordem das páginas. No modo não ordenado, cada página é
+ * entregue assim que sua resposta chega, o que evita que uma página lenta segure as demais.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ *
+ * @param <T> Qualquer subclasse de {@link IxcRecord}.
+ */
+public class PageScanner<T extends IxcRecord> implements Iterator<T> {
+
+    private final IntFunction<CompletableFuture<IxcResponseBody>> fetcher;
+    private final Class<T> mapper;
+    private final int parallelism;
+    private final boolean ordered;
+    private final Deque<CompletableFuture<List<T>>> orderedPages;
+    private final BlockingQueue<CompletableFuture<List<T>>> completedPages;
+    private Iterator<T> current;
+    private int nextPage;
+    private int lastPage;
+    private int inFlight;
+
+    /**
+     * @param fetcher Uma função que recebe o número de uma página e devolve um {@link CompletableFuture} com o
+     *                {@link IxcResponseBody} dessa página.
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @param firstPage O número da primeira página a ser buscada.
+     * @param rows A quantidade de registros por página.
+     * @param parallelism A quantidade máxima de páginas buscadas ao mesmo tempo.
+     * @param ordered Se <b>true</b>, os registros são entregues na ordem das páginas.
+     */
+    public PageScanner(IntFunction<CompletableFuture<IxcResponseBody>> fetcher, Class<T> mapper, int firstPage,
+                       int rows, int parallelism, boolean ordered) {
+        this.fetcher = fetcher;
+        this.mapper = mapper;
+        this.parallelism = Math.max(1, parallelism);
+        this.ordered = ordered;
+        this.orderedPages = new ArrayDeque<>();
+        this.completedPages = new LinkedBlockingQueue<>();
+        this.current = Collections.emptyIterator();
+        this.inFlight = 0;
+        fetchFirstPage(firstPage, Math.max(1, rows));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (inFlight == 0) {
+                return false;
+            }
+            current = takeNextPage().iterator();
+            submitPages();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private void fetchFirstPage(int firstPage, int rows) {
+        IxcResponseBody body = await(fetcher.apply(firstPage));
+        List<T> records = body.getRegistros(mapper);
+        current = records.iterator();
+        nextPage = firstPage + 1;
+        lastPage = (records.size() < rows) ? firstPage : (int) Math.ceilDiv((long) body.getTotal(), rows);
+        submitPages();
+    }
+
+    private void submitPages() {
+        while (inFlight < parallelism && nextPage <= lastPage) {
+            CompletableFuture<List<T>> page = fetcher.apply(nextPage++)
+                    .thenApply(body -> body.getRegistros(mapper));
+            if (ordered) {
+                orderedPages.addLast(page);
+            }
+            else {
+                page.whenComplete((records, error) -> completedPages.add(page));
+            }
+            inFlight++;
+        }
+    }
+
+    private List<T> takeNextPage() {
+        CompletableFuture<List<T>> page;
+        try {
+            page = ordered ? orderedPages.removeFirst() : completedPages.take();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NetworkConnectionException();
+        }
+        inFlight--;
+        return await(page);
+    }
+
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof IxcException cause) {
+                throw cause;
+            }
+            throw new NetworkConnectionException();
+        }
+    }
+}
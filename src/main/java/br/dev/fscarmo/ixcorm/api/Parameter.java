@@ -24,7 +24,7 @@ import br.dev.fscarmo.ixcorm.enums.Operator;
  * }
  *
  * @author Felipe S. Carmo
- * @version 1.0.1
+ * @version 1.1.0
  * @since 2025-09-27
  */
 public class Parameter {
@@ -52,16 +52,48 @@ public class Parameter {
         return new Builder(table);
     }
 
+    /**
+     * @return O campo <b>TB</b> do objeto de busca, no formato "tabela.coluna".
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * @return O campo <b>OP</b> do objeto de busca.
+     */
+    public String getOperator() {
+        return operator;
+    }
+
+    /**
+     * @return O campo <b>P</b> do objeto de busca.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * <p>
+     * Escreve este parâmetro no formato JSON, com os valores devidamente escapados, no <b>builder</b> informado.
+     * </p>
+     *
+     * @param builder O {@link StringBuilder} que receberá o objeto JSON.
+     * @return O próprio <b>builder</b>.
+     */
+    public StringBuilder writeTo(StringBuilder builder) {
+        builder.append("{\"TB\":\"");
+        Utils.Json.escape(builder, table).append("\",\"OP\":\"");
+        Utils.Json.escape(builder, operator).append("\",\"P\":\"");
+        return Utils.Json.escape(builder, value).append("\"}");
+    }
+
     /**
      * @return Uma <b>String</b> no formado JSON representando um objeto do filtro <b>grid_param.</b>
      */
     @Override
     public String toString() {
-        return "{" +
-                    "\\\"TB\\\":\\\""+ this.table +"\\\"," +
-                    "\\\"OP\\\":\\\""+ this.operator +"\\\"," +
-                    "\\\"P\\\":\\\""+ this.value +"\\\"" +
-               "}";
+        return writeTo(new StringBuilder()).toString();
     }
 
     /**
@@ -0,0 +1,153 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.api.records.Ordering;
+import br.dev.fscarmo.ixcorm.api.records.Pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * <p>
+ * A classe 'Query' mantém o estado estruturado da query de busca da API do IXC Provedor: a tabela, os parâmetros do
+ * filtro <b>grid_param</b>, a ordenação e a paginação. Adicionar filtros apenas acumula os objetos {@link Parameter};
+ * o JSON da query é gerado uma única vez, em <b>toJson()</b> ou <b>toBytes()</b>, no momento do envio da requisição.
+ * </p>
+ *
+ * <p>
+ * Todos os valores são escapados na serialização. Como a API do IXC Provedor espera a propriedade <b>grid_param</b>
+ * como uma {@link String} contendo um array JSON, os valores dos parâmetros são escapados duas vezes.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.2.1
+ * @since 2026-10-17
+ */
+public class Query {
+
+    private final String table;
+    private final List<Parameter> parameters;
+    private Ordering ordering;
+    private Pagination pagination;
+
+    /**
+     * @param table O nome da tabela a ser consultada no IXC Provedor.
+     */
+    public Query(String table) {
+        this.table = table;
+        this.parameters = new ArrayList<>();
+        this.ordering = Ordering.ascBy(table, "id");
+        this.pagination = Pagination.defaults();
+    }
+
+    /**
+     * @return Uma nova instância de {@link Query}, com a mesma tabela, parâmetros, ordenação e paginação desta
+     *         instância. Alterações na cópia não afetam esta instância.
+     */
+    public Query copy() {
+        Query copy = new Query(table);
+        copy.parameters.addAll(parameters);
+        copy.ordering = ordering;
+        copy.pagination = pagination;
+        return copy;
+    }
+
+    /**
+     * @param parameter Um novo objeto do filtro <b>grid_param</b>.
+     */
+    public void addParameter(Parameter parameter) {
+        parameters.add(parameter);
+    }
+
+    /**
+     * @return Uma lista imutável com os parâmetros do filtro <b>grid_param</b>.
+     */
+    public List<Parameter> getParameters() {
+        return List.copyOf(parameters);
+    }
+
+    /**
+     * @param ordering A ordenação dos registros retornados pela busca.
+     */
+    public void setOrdering(Ordering ordering) {
+        this.ordering = ordering;
+    }
+
+    /**
+     * @return A ordenação atual da query.
+     */
+    public Ordering getOrdering() {
+        return ordering;
+    }
+
+    /**
+     * @param pagination A paginação dos registros retornados pela busca.
+     */
+    public void setPagination(Pagination pagination) {
+        this.pagination = pagination;
+    }
+
+    /**
+     * @return A paginação atual da query.
+     */
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    /**
+     * @return Uma {@link String} no formato JSON com a query de busca completa.
+     */
+    public String toJson() {
+        return toJson(pagination);
+    }
+
+    /**
+     * <p>
+     * Gera o JSON da query de busca utilizando a paginação informada, sem alterar a paginação desta instância.
+     * </p>
+     *
+     * @param pagination A paginação a ser utilizada no JSON.
+     * @return Uma {@link String} no formato JSON com a query de busca completa.
+     */
+    public String toJson(Pagination pagination) {
+        StringBuilder json = new StringBuilder(128 + parameters.size() * 64);
+
+        json.append("{\"qtype\":\"");
+        Utils.Json.escape(json, table).append("\",\"query\":\"\",\"oper\":\"\",\"page\":")
+                .append(pagination.page()).append(",\"rp\":")
+                .append(pagination.rows()).append(",\"sortname\":\"");
+        Utils.Json.escape(json, ordering.sortName()).append("\",\"sortorder\":\"");
+        Utils.Json.escape(json, ordering.sortOrder().value()).append("\",\"grid_param\":\"");
+        Utils.Json.escape(json, getGridParamsAsJson()).append("\"}");
+
+        return json.toString();
+    }
+
+    /**
+     * @return Os bytes em UTF-8 do JSON da query de busca, prontos para o corpo da requisição.
+     */
+    public byte[] toBytes() {
+        return toJson().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param pagination A paginação a ser utilizada no JSON.
+     * @return Os bytes em UTF-8 do JSON da query de busca, prontos para o corpo da requisição.
+     */
+    public byte[] toBytes(Pagination pagination) {
+        return toJson(pagination).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private StringBuilder getGridParamsAsJson() {
+        StringBuilder grid = new StringBuilder(2 + parameters.size() * 64).append('[');
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                grid.append(',');
+            }
+            parameters.get(i).writeTo(grid);
+        }
+        return grid.append(']');
+    }
+}
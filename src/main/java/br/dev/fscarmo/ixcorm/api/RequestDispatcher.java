@@ -0,0 +1,268 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import br.dev.fscarmo.ixcorm.exception.IxcException;
+import br.dev.fscarmo.ixcorm.exception.NetworkConnectionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+
+/**
+ * <p>
+ * A classe 'RequestDispatcher' envia as requisições já construídas pelo {@link RequestEmitter}, aplicando, quando
+ * configurados, o {@link DomainRateLimiter} do domínio e a {@link RetryPolicy} do contexto.
+ * </p>
+ *
+ * <p>
+ * Cada tentativa aguarda uma permissão do limitador de taxa antes de ser enviada. As tentativas que falham por erro de
+ * comunicação, ou que recebem um status temporário, são reenviadas após o intervalo definido pela
+ * {@link RetryPolicy}. Quando o <i>hedging</i> está habilitado, as listagens que não respondem dentro do p95 observado
+ * são enviadas em duplicidade, e a primeira resposta recebida é utilizada.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.1
+ * @since 2026-10-17
+ */
+public class RequestDispatcher {
+
+    private final IxcTransport transport;
+    private final DomainRateLimiter limiter;
+    private final RetryPolicy policy;
+
+    /**
+     * @param transport O {@link IxcTransport} utilizado no envio das requisições.
+     * @param limiter O {@link DomainRateLimiter} do domínio, ou <b>null</b> se a taxa não for controlada.
+     * @param policy A {@link RetryPolicy} das requisições, ou <b>null</b> se as requisições não forem reenviadas.
+     */
+    public RequestDispatcher(IxcTransport transport, DomainRateLimiter limiter, RetryPolicy policy) {
+        this.transport = transport;
+        this.limiter = limiter;
+        this.policy = policy;
+    }
+
+    /**
+     * @return O {@link IxcTransport} utilizado no envio das requisições.
+     */
+    public IxcTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * <p>
+     * Envia a requisição de forma síncrona, reenviando-a conforme a {@link RetryPolicy}.
+     * </p>
+     *
+     * @param request A requisição a ser enviada.
+     * @param handler O manipulador do corpo da resposta.
+     * @param listing Se a requisição é uma listagem.
+     * @param idempotent Se a requisição pode ser reenviada sem efeitos colaterais.
+     * @return A resposta HTTP obtida do IXC Provedor.
+     * @throws NetworkConnectionException Se todas as tentativas falharem por erro de comunicação.
+     */
+    public <B> HttpResponse<B> send(HttpRequest request, HttpResponse.BodyHandler<B> handler, boolean listing,
+                                    boolean idempotent) throws NetworkConnectionException {
+        if (getHedgeDelay(listing) > 0) {
+            return await(sendAsync(request, handler, listing, idempotent));
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                HttpResponse<B> response = sendOnce(request, handler, listing);
+                if (!shouldRetry(response.statusCode(), attempt, idempotent)) {
+                    return response;
+                }
+                discard(response);
+                pause(policy.backoffNanos(attempt));
+            }
+            catch (IOException | UncheckedIOException e) {
+                if (policy == null || !policy.canRetry(attempt, idempotent)) {
+                    throw new NetworkConnectionException(e);
+                }
+                pause(policy.backoffNanos(attempt));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NetworkConnectionException(e);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Envia a requisição de forma assíncrona, reenviando-a conforme a {@link RetryPolicy}.
+     * </p>
+     *
+     * @param request A requisição a ser enviada.
+     * @param handler O manipulador do corpo da resposta.
+     * @param listing Se a requisição é uma listagem.
+     * @param idempotent Se a requisição pode ser reenviada sem efeitos colaterais.
+     * @return Um {@link CompletableFuture} que será completado com a resposta HTTP obtida do IXC Provedor.
+     */
+    public <B> CompletableFuture<HttpResponse<B>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<B> handler,
+                                                            boolean listing, boolean idempotent) {
+        Supplier<CompletableFuture<HttpResponse<B>>> attempt =
+                () -> sendWithRetryAsync(request, handler, listing, idempotent, 1);
+
+        long hedgeDelay = getHedgeDelay(listing);
+        return (hedgeDelay > 0) ? hedge(attempt, hedgeDelay) : attempt.get();
+    }
+
+    private <B> HttpResponse<B> sendOnce(HttpRequest request, HttpResponse.BodyHandler<B> handler, boolean listing)
+            throws IOException, InterruptedException {
+        if (limiter != null) {
+            limiter.acquire(listing);
+        }
+        long start = System.nanoTime();
+        HttpResponse<B> response = transport.send(request, handler);
+        onResponse(response, listing, start);
+        return response;
+    }
+
+    private <B> CompletableFuture<HttpResponse<B>> sendOnceAsync(HttpRequest request,
+                                                                 HttpResponse.BodyHandler<B> handler,
+                                                                 boolean listing) {
+        long wait = (limiter != null) ? limiter.reserve(listing) : 0;
+        CompletableFuture<Void> permit = (wait > 0)
+                ? CompletableFuture.runAsync(() -> {}, delayed(wait))
+                : CompletableFuture.completedFuture(null);
+
+        return permit.thenCompose(ignored -> {
+            long start = System.nanoTime();
+            return transport.sendAsync(request, handler)
+                    .thenApply(response -> onResponse(response, listing, start));
+        });
+    }
+
+    private <B> CompletableFuture<HttpResponse<B>> sendWithRetryAsync(HttpRequest request,
+                                                                      HttpResponse.BodyHandler<B> handler,
+                                                                      boolean listing, boolean idempotent,
+                                                                      int attempt) {
+        CompletableFuture<HttpResponse<B>> sent = sendOnceAsync(request, handler, listing);
+        if (policy == null) {
+            return sent;
+        }
+
+        return sent.handle((response, error) -> {
+            boolean retry = (error != null)
+                    ? policy.canRetry(attempt, idempotent)
+                    : shouldRetry(response.statusCode(), attempt, idempotent);
+
+            if (!retry) {
+                return (error != null)
+                        ? CompletableFuture.<HttpResponse<B>>failedFuture(error)
+                        : CompletableFuture.completedFuture(response);
+            }
+
+            if (response != null) {
+                discard(response);
+            }
+            return CompletableFuture.runAsync(() -> {}, delayed(policy.backoffNanos(attempt)))
+                    .thenCompose(ignored -> sendWithRetryAsync(request, handler, listing, idempotent, attempt + 1));
+        }).thenCompose(future -> future);
+    }
+
+    private <B> CompletableFuture<HttpResponse<B>> hedge(Supplier<CompletableFuture<HttpResponse<B>>> attempt,
+                                                         long delay) {
+        CompletableFuture<HttpResponse<B>> result = new CompletableFuture<>();
+        AtomicBoolean hedged = new AtomicBoolean(false);
+        AtomicInteger failures = new AtomicInteger(0);
+
+        attempt.get().whenComplete((response, error) -> {
+            if (error == null) {
+                completeOrDiscard(result, response);
+            }
+            else if (hedged.compareAndSet(false, true) || failures.incrementAndGet() == 2) {
+                result.completeExceptionally(error);
+            }
+        });
+
+        CompletableFuture.runAsync(() -> {
+            if (result.isDone() || !hedged.compareAndSet(false, true)) {
+                return;
+            }
+            attempt.get().whenComplete((response, error) -> {
+                if (error == null) {
+                    completeOrDiscard(result, response);
+                }
+                else if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }, delayed(delay));
+
+        return result;
+    }
+
+    private boolean shouldRetry(int statusCode, int attempt, boolean idempotent) {
+        return policy != null && policy.isRetryableStatus(statusCode) && policy.canRetry(attempt, idempotent);
+    }
+
+    private long getHedgeDelay(boolean listing) {
+        return (listing && policy != null && policy.isHedging()) ? policy.hedgeDelayNanos() : -1;
+    }
+
+    private <B> HttpResponse<B> onResponse(HttpResponse<B> response, boolean listing, long start) {
+        int statusCode = response.statusCode();
+        if (limiter != null) {
+            limiter.onResponse(listing, statusCode);
+        }
+        if (listing && policy != null && statusCode >= 200 && statusCode < 300) {
+            policy.recordLatency(System.nanoTime() - start);
+        }
+        return response;
+    }
+
+    private static <B> void completeOrDiscard(CompletableFuture<HttpResponse<B>> result, HttpResponse<B> response) {
+        if (!result.complete(response)) {
+            discard(response);
+        }
+    }
+
+    private static void discard(HttpResponse<?> response) {
+        if (response.body() instanceof AutoCloseable body) {
+            try {
+                body.close();
+            }
+            catch (Exception ignored) {
+            }
+        }
+    }
+
+    private static void pause(long nanos) {
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NetworkConnectionException(e);
+        }
+    }
+
+    private static Executor delayed(long nanos) {
+        return CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof IxcException cause) {
+                throw cause;
+            }
+            throw new NetworkConnectionException(e.getCause());
+        }
+    }
+}
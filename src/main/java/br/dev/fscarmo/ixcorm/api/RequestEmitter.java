@@ -1,23 +1,34 @@
 package br.dev.fscarmo.ixcorm.api;
 
 
+import br.dev.fscarmo.ixcorm.IxcColumnarResult;
 import br.dev.fscarmo.ixcorm.IxcContext;
 import br.dev.fscarmo.ixcorm.IxcRecord;
 import br.dev.fscarmo.ixcorm.IxcResponse;
+import br.dev.fscarmo.ixcorm.IxcResponseStream;
+import br.dev.fscarmo.ixcorm.IxcTenant;
+import br.dev.fscarmo.ixcorm.api.records.BulkResult;
 import br.dev.fscarmo.ixcorm.api.records.Header;
+import br.dev.fscarmo.ixcorm.api.records.RateLimits;
 import br.dev.fscarmo.ixcorm.enums.Method;
+import br.dev.fscarmo.ixcorm.exception.IxcException;
 import br.dev.fscarmo.ixcorm.exception.NetworkConnectionException;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 
 /**
@@ -26,33 +37,97 @@ import java.util.List;
  * métodos de requisição de forma padronizada.
  * </p>
  *
+ * <p>
+ * Todas as requisições são enviadas pelo {@link IxcTransport} compartilhado no {@link IxcContext}, reaproveitando as
+ * conexões já abertas com o servidor do IXC Provedor.
+ * </p>
+ *
+ * <p>
+ * Cada método de requisição possui uma versão assíncrona (<b>GETAsync</b>, <b>POSTAsync</b>, <b>PUTAsync</b> e
+ * <b>DELETEAsync</b>), que devolve um {@link CompletableFuture} em vez de bloquear a thread até a resposta chegar.
+ * Quando a requisição falha, o {@link CompletableFuture} é completado com uma {@link NetworkConnectionException}, que
+ * mantém como causa a falha original da comunicação.
+ * </p>
+ *
+ * <p>
+ * Para listagens grandes, <b>GETStream(Class< T > mapper)</b> decodifica os registros diretamente do corpo da
+ * resposta, um de cada vez, sem carregar a página inteira em memória. Quando o servidor responde com gzip, o corpo é
+ * descompactado à medida que é lido, pelos manipuladores de {@link GzipBodyHandlers}. Já
+ * <b>GETColumnar(IxcColumnarResult.Builder builder)</b> grava os valores diretamente em colunas de tipos primitivos.
+ * </p>
+ *
+ * <p>
+ * Quando um {@link ListingCache} está definido no {@link IxcContext}, <b>GET()</b> e <b>GETAsync()</b> consultam o
+ * cache antes de enviar a requisição, e toda requisição de escrita invalida as entradas da sua tabela. Listagens
+ * idênticas em andamento ao mesmo tempo compartilham uma única requisição, pelo {@link InFlightRequests} do contexto.
+ * </p>
+ *
+ * <p>
+ * O envio é feito pelo {@link RequestDispatcher}: quando {@link RateLimits} estão definidos no {@link IxcContext}, cada
+ * requisição aguarda uma permissão do {@link DomainRateLimiter} do domínio antes de ser enviada, e quando uma
+ * {@link RetryPolicy} está definida, as requisições que falham são reenviadas conforme essa política.
+ * </p>
+ *
+ * <p>
+ * Para inserções e atualizações em massa, <b>POSTAll(...)</b> e <b>PUTAll(...)</b> enviam as escritas de vários
+ * registros com uma quantidade limitada de requisições em andamento ao mesmo tempo.
+ * </p>
+ *
+ * <p>
+ * Quando a instância é vinculada a um {@link IxcTenant}, todas as configurações acima são lidas do tenant, em vez do
+ * {@link IxcContext}.
+ * </p>
+ *
+ * <p>
+ * Quando uma implementação de {@link IxcMetrics} está definida no {@link IxcContext}, cada requisição informa a ela o
+ * seu método, a sua duração, os bytes enviados e recebidos e as falhas de comunicação. Os bytes recebidos são os do
+ * corpo transmitido pela conexão, ainda compactado, segundo o header <b>Content-Length</b>, e cada falha é informada
+ * pela exceção que a causou.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 2.0.0
+ * @version 3.9.4
  * @since 2025-09-27
  */
 public abstract class RequestEmitter {
 
     private static final HttpResponse.BodyHandler<String> BODY_HANDLER =
-            HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8);
+            GzipBodyHandlers.ofString(StandardCharsets.UTF_8);
+
+    private static final HttpResponse.BodyHandler<InputStream> STREAM_BODY_HANDLER =
+            GzipBodyHandlers.ofInputStream();
 
     private final List<Header> headers = new ArrayList<>();
+    private final IxcTenant tenant;
     private final String table;
+    private final Query query;
     private HttpRequest.BodyPublisher publisher;
-    private String query;
     private URI uri;
+    private boolean listing;
 
     /**
      * @param table Representa o endpoint do IXC Provedor para o qual a requisição será enviada.
      */
     protected RequestEmitter(String table) {
+        this(table, null);
+    }
+
+    /**
+     * @param table Representa o endpoint do IXC Provedor para o qual a requisição será enviada.
+     * @param tenant O {@link IxcTenant} cujo ambiente será utilizado nas requisições, ou <b>null</b> para utilizar o
+     *               ambiente padrão do {@link IxcContext}.
+     */
+    protected RequestEmitter(String table, IxcTenant tenant) {
+        this.tenant = tenant;
         this.table = table;
+        this.query = new Query(table);
         setupDefaultHeaders();
     }
 
     /**
      * <p>
      * Envia uma requisição HTTP para a API do IXC Provedor, para listar registros, filtrando-os pela query de busca
-     * definida por <b>setQuery(String query).</b>
+     * mantida em <b>getQuery()</b>. O JSON da query é gerado uma única vez, no momento do envio.
      * A requisição é do tipo POST, o que define que ela irá executar uma listagem de registros é a presença do header:
      * ["ixcsoft": "listar"].
      * </p>
@@ -63,9 +138,109 @@ public abstract class RequestEmitter {
     public IxcResponse GET() throws NetworkConnectionException {
         setupUri();
         enableIxcListingHeader();
-        setupBodyPublisher(query);
-        HttpResponse<String> response = emitRequest(Method.POST);
-        return new IxcResponse(response);
+        String payload = query.toJson();
+        setupBodyPublisher(payload);
+
+        ListingCache cache = getListingCache();
+        if (cache == null) {
+            return emitListing(payload);
+        }
+
+        IxcResponse cached = cache.get(table, payload);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = cache.generation(table);
+        IxcResponse response = emitListing(payload);
+        cache.put(table, payload, response.getStatusCode(), response.getRawBody(), generation);
+        return response;
+    }
+
+    /**
+     * <p>
+     * Envia a mesma requisição de listagem de <b>GET()</b>, mas em vez de carregar o corpo da resposta em memória,
+     * devolve um {@link IxcResponseStream} que lê e mapeia os <b>registros</b> um de cada vez, diretamente da conexão.
+     * </p>
+     *
+     * {@snippet lang = java:
+     * try (IxcResponseStream<ClienteRecord> clientes = new Cliente().GETStream(ClienteRecord.class)) {
+     *     clientes.forEachRemaining(c -> IO.println(c.getRazao()));
+     * }
+     * }
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @return Um {@link IxcResponseStream}, que deve ser fechado após o uso.
+     * @throws NetworkConnectionException Se ocorrer alguma falha na comunicação com o IXC Provedor.
+     */
+    public <T extends IxcRecord> IxcResponseStream<T> GETStream(Class<T> mapper) throws NetworkConnectionException {
+        return GETStream(mapper, query);
+    }
+
+    /**
+     * <p>
+     * Envia a mesma requisição de <b>GETStream(Class< T > mapper)</b>, mas com uma query de busca informada, em vez da
+     * query mantida em <b>getQuery()</b>. Permite que varreduras de várias páginas alterem uma cópia da query, sem
+     * modificar a query da instância.
+     * </p>
+     *
+     * @param mapper A classe de um tipo genérico que herde de {@link IxcRecord}.
+     * @param query A query de busca a ser enviada.
+     * @return Um {@link IxcResponseStream}, que deve ser fechado após o uso.
+     * @throws NetworkConnectionException Se ocorrer alguma falha na comunicação com o IXC Provedor.
+     */
+    protected <T extends IxcRecord> IxcResponseStream<T> GETStream(Class<T> mapper, Query query)
+            throws NetworkConnectionException {
+        setupUri();
+        enableIxcListingHeader();
+        setupBodyPublisher(query.toBytes());
+        HttpResponse<InputStream> response = emitRequest(Method.POST, STREAM_BODY_HANDLER);
+        try {
+            return new IxcResponseStream<>(response.statusCode(), response.body(), mapper);
+        }
+        catch (RuntimeException e) {
+            closeQuietly(response.body());
+            throw e;
+        }
+    }
+
+    /**
+     * <p>
+     * Envia uma requisição HTTP para a API do IXC Provedor, para listar os registros da tabela, e grava os valores das
+     * colunas declaradas no {@link IxcColumnarResult.Builder} diretamente a partir do corpo da resposta, sem criar um
+     * objeto por registro.
+     * </p>
+     *
+     * @param builder O {@link IxcColumnarResult.Builder} com as colunas declaradas.
+     * @return A quantidade de registros lidos da resposta.
+     * @throws NetworkConnectionException Se ocorrer alguma falha na comunicação com o IXC Provedor.
+     */
+    public int GETColumnar(IxcColumnarResult.Builder builder) throws NetworkConnectionException {
+        return GETColumnar(builder, query);
+    }
+
+    /**
+     * <p>
+     * Envia a mesma requisição de <b>GETColumnar(IxcColumnarResult.Builder builder)</b>, mas com uma query de busca
+     * informada, em vez da query mantida em <b>getQuery()</b>.
+     * </p>
+     *
+     * @param builder O {@link IxcColumnarResult.Builder} com as colunas declaradas.
+     * @param query A query de busca a ser enviada.
+     * @return A quantidade de registros lidos da resposta.
+     * @throws NetworkConnectionException Se ocorrer alguma falha na comunicação com o IXC Provedor.
+     */
+    protected int GETColumnar(IxcColumnarResult.Builder builder, Query query) throws NetworkConnectionException {
+        setupUri();
+        enableIxcListingHeader();
+        setupBodyPublisher(query.toBytes());
+        HttpResponse<InputStream> response = emitRequest(Method.POST, STREAM_BODY_HANDLER);
+        try {
+            return builder.read(response.statusCode(), response.body());
+        }
+        catch (RuntimeException e) {
+            closeQuietly(response.body());
+            throw e;
+        }
     }
 
     /**
@@ -83,8 +258,13 @@ public abstract class RequestEmitter {
         setupUri(record.getId());
         disableIxcListingHeader();
         setupBodyPublisher(record.toJsonString());
-        HttpResponse<String> response = emitRequest(Method.POST);
-        return new IxcResponse(response);
+        try {
+            HttpResponse<String> response = emitRequest(Method.POST, BODY_HANDLER);
+            return new IxcResponse(response);
+        }
+        finally {
+            invalidateCachedListings();
+        }
     }
 
     /**
@@ -102,8 +282,13 @@ public abstract class RequestEmitter {
         setupUri(record.getId());
         disableIxcListingHeader();
         setupBodyPublisher(record.toJsonString());
-        HttpResponse<String> response = emitRequest(Method.PUT);
-        return new IxcResponse(response);
+        try {
+            HttpResponse<String> response = emitRequest(Method.PUT, BODY_HANDLER);
+            return new IxcResponse(response);
+        }
+        finally {
+            invalidateCachedListings();
+        }
     }
 
     /**
@@ -118,9 +303,146 @@ public abstract class RequestEmitter {
     public IxcResponse DELETE(Integer id) throws NetworkConnectionException {
         setupUri(id);
         disableIxcListingHeader();
-        setupBodyPublisher(null);
-        HttpResponse<String> response = emitRequest(Method.DELETE);
-        return new IxcResponse(response);
+        setupBodyPublisher((byte[]) null);
+        try {
+            HttpResponse<String> response = emitRequest(Method.DELETE, BODY_HANDLER);
+            return new IxcResponse(response);
+        }
+        finally {
+            invalidateCachedListings();
+        }
+    }
+
+    /**
+     * <p>
+     * Versão assíncrona de <b>GET()</b>.
+     * </p>
+     *
+     * @return Um {@link CompletableFuture} que será completado com o {@link IxcResponse} da listagem.
+     */
+    public CompletableFuture<IxcResponse> GETAsync() {
+        setupUri();
+        enableIxcListingHeader();
+        String payload = query.toJson();
+        setupBodyPublisher(payload);
+
+        ListingCache cache = getListingCache();
+        if (cache == null) {
+            return emitListingAsync(payload);
+        }
+
+        IxcResponse cached = cache.get(table, payload);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long generation = cache.generation(table);
+        return emitListingAsync(payload).thenApply(response -> {
+            cache.put(table, payload, response.getStatusCode(), response.getRawBody(), generation);
+            return response;
+        });
+    }
+
+    /**
+     * <p>
+     * Versão assíncrona de <b>POST(IxcRecord record)</b>.
+     * </p>
+     *
+     * @param record O novo registro a ser inserido no banco de dados.
+     * @return Um {@link CompletableFuture} que será completado com o {@link IxcResponse} da inserção.
+     */
+    public CompletableFuture<IxcResponse> POSTAsync(IxcRecord record) {
+        setupUri(record.getId());
+        disableIxcListingHeader();
+        setupBodyPublisher(record.toJsonString());
+        return emitRequestAsync(Method.POST).whenComplete((response, error) -> invalidateCachedListings());
+    }
+
+    /**
+     * <p>
+     * Versão assíncrona de <b>PUT(IxcRecord record)</b>.
+     * </p>
+     *
+     * @param record O registro com os campos a serem atualizados no banco de dados.
+     * @return Um {@link CompletableFuture} que será completado com o {@link IxcResponse} da atualização.
+     */
+    public CompletableFuture<IxcResponse> PUTAsync(IxcRecord record) {
+        setupUri(record.getId());
+        disableIxcListingHeader();
+        setupBodyPublisher(record.toJsonString());
+        return emitRequestAsync(Method.PUT).whenComplete((response, error) -> invalidateCachedListings());
+    }
+
+    /**
+     * <p>
+     * Versão assíncrona de <b>DELETE(Integer id)</b>.
+     * </p>
+     *
+     * @param id Um {@link Integer} com o id do registro a ser removido do banco de dados do IXC Provedor.
+     * @return Um {@link CompletableFuture} que será completado com o {@link IxcResponse} da exclusão.
+     */
+    public CompletableFuture<IxcResponse> DELETEAsync(Integer id) {
+        setupUri(id);
+        disableIxcListingHeader();
+        setupBodyPublisher((byte[]) null);
+        return emitRequestAsync(Method.DELETE).whenComplete((response, error) -> invalidateCachedListings());
+    }
+
+    /**
+     * <p>
+     * Insere vários registros no banco de dados, mantendo no máximo <b>concurrency</b> requisições em andamento ao
+     * mesmo tempo.
+     * </p>
+     *
+     * @param records Os novos registros a serem inseridos no banco de dados.
+     * @param concurrency A quantidade máxima de requisições em andamento ao mesmo tempo.
+     * @return Uma lista de {@link BulkResult}, na mesma ordem dos registros, com a resposta ou a falha de cada um.
+     */
+    public List<BulkResult> POSTAll(Collection<? extends IxcRecord> records, int concurrency) {
+        return POSTAll(records.stream(), concurrency);
+    }
+
+    /**
+     * <p>
+     * Insere os registros de um {@link Stream} no banco de dados, mantendo no máximo <b>concurrency</b> requisições em
+     * andamento ao mesmo tempo. O {@link Stream} só é consumido à medida que as requisições anteriores são concluídas.
+     * </p>
+     *
+     * @param records Os novos registros a serem inseridos no banco de dados.
+     * @param concurrency A quantidade máxima de requisições em andamento ao mesmo tempo.
+     * @return Uma lista de {@link BulkResult}, na mesma ordem dos registros, com a resposta ou a falha de cada um.
+     */
+    public List<BulkResult> POSTAll(Stream<? extends IxcRecord> records, int concurrency) {
+        return emitAll(records, concurrency, this::POSTAsync);
+    }
+
+    /**
+     * <p>
+     * Atualiza vários registros no banco de dados, mantendo no máximo <b>concurrency</b> requisições em andamento ao
+     * mesmo tempo.
+     * </p>
+     *
+     * @param records Os registros com os campos a serem atualizados no banco de dados.
+     * @param concurrency A quantidade máxima de requisições em andamento ao mesmo tempo.
+     * @return Uma lista de {@link BulkResult}, na mesma ordem dos registros, com a resposta ou a falha de cada um.
+     */
+    public List<BulkResult> PUTAll(Collection<? extends IxcRecord> records, int concurrency) {
+        return PUTAll(records.stream(), concurrency);
+    }
+
+    /**
+     * <p>
+     * Atualiza os registros de um {@link Stream} no banco de dados, mantendo no máximo <b>concurrency</b> requisições
+     * em andamento ao mesmo tempo. O {@link Stream} só é consumido à medida que as requisições anteriores são
+     * concluídas.
+     * </p>
+     *
+     * @param records Os registros com os campos a serem atualizados no banco de dados.
+     * @param concurrency A quantidade máxima de requisições em andamento ao mesmo tempo.
+     * @return Uma lista de {@link BulkResult}, na mesma ordem dos registros, com a resposta ou a falha de cada um.
+     */
+    public List<BulkResult> PUTAll(Stream<? extends IxcRecord> records, int concurrency) {
+        return emitAll(records, concurrency, this::PUTAsync);
     }
 
     /**
@@ -131,15 +453,46 @@ public abstract class RequestEmitter {
     }
 
     /**
-     * @param query Uma {@link String} JSON com o corpo da query no formato exigido pela API do IXC Provedor.
+     * @return A {@link Query} de busca utilizada nas requisições de listagem.
+     */
+    protected Query getQuery() {
+        return query;
+    }
+
+    /**
+     * @return O {@link IxcTenant} vinculado a esta instância, ou <b>null</b> se for utilizado o ambiente padrão.
      */
-    protected void setQuery(String query) {
-        this.query = query;
+    protected IxcTenant getTenant() {
+        return tenant;
+    }
+
+    private ListingCache getListingCache() {
+        ListingCache cache = getCache();
+        return (cache != null && cache.isCacheable(table)) ? cache : null;
+    }
+
+    private ListingCache getCache() {
+        return (tenant != null) ? tenant.getCache() : IxcContext.INSTANCE.getCache();
+    }
+
+    private InFlightRequests getInFlightRequests() {
+        return (tenant != null) ? tenant.getInFlightRequests() : IxcContext.INSTANCE.getInFlightRequests();
+    }
+
+    private void invalidateCachedListings() {
+        ListingCache cache = getCache();
+        if (cache != null) {
+            cache.invalidate(table);
+        }
+        InFlightRequests inFlight = getInFlightRequests();
+        if (inFlight != null) {
+            inFlight.forget(table);
+        }
     }
 
     private void setupDefaultHeaders() {
-        String encodedToken = getEncodedTokenFromContext();
-        headers.add(Header.of("Authorization", "Basic "+ encodedToken));
+        String authorization = (tenant != null) ? tenant.getAuthorization() : "Basic "+ getEncodedTokenFromContext();
+        headers.add(Header.of("Authorization", authorization));
         headers.add(Header.of("Content-Type", "application/json"));
         headers.add(Header.of("ixcsoft", ""));
     }
@@ -151,22 +504,29 @@ public abstract class RequestEmitter {
     }
 
     private void setupUri() {
-        String domain = IxcContext.INSTANCE.getEnv().getDomain();
-        uri = URI.create("https://"+ domain +"/webservice/v1/"+ table);
+        uri = URI.create(getEndpoint() + table);
     }
 
     private void setupUri(Integer id) {
-        String domain = IxcContext.INSTANCE.getEnv().getDomain();
-        uri = URI.create("https://"+ domain +"/webservice/v1/"+ table +"/"+ id);
+        uri = URI.create(getEndpoint() + table +"/"+ id);
+    }
+
+    private String getEndpoint() {
+        if (tenant != null) {
+            return tenant.getEndpoint();
+        }
+        return IxcContext.INSTANCE.getEnv().getEndpoint();
     }
 
     private void enableIxcListingHeader() {
+        listing = true;
         headers.stream()
                 .filter(h -> h.hasName("ixcsoft"))
                 .findFirst().ifPresent(h -> h.setValue("listar"));
     }
 
     private void disableIxcListingHeader() {
+        listing = false;
         headers.stream()
                 .filter(h -> h.hasName("ixcsoft"))
                 .findFirst().ifPresent(h -> h.setValue(""));
@@ -174,22 +534,201 @@ public abstract class RequestEmitter {
 
     private void setupBodyPublisher(String body) {
         boolean isValidBody = (body != null && !body.isBlank());
+        setupBodyPublisher(isValidBody ? body.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private void setupBodyPublisher(byte[] body) {
+        boolean isValidBody = (body != null && body.length > 0);
         publisher = (isValidBody)
-                ? HttpRequest.BodyPublishers.ofString(body)
+                ? HttpRequest.BodyPublishers.ofByteArray(body)
                 : HttpRequest.BodyPublishers.noBody();
     }
 
-    private HttpResponse<String> emitRequest(Method method) throws NetworkConnectionException {
-        try (HttpClient client = HttpClient.newHttpClient()) {
+    private IxcResponse emitListing(String payload) throws NetworkConnectionException {
+        InFlightRequests inFlight = getInFlightRequests();
+        if (inFlight == null) {
+            return new IxcResponse(emitRequest(Method.POST, BODY_HANDLER));
+        }
+        return inFlight.execute(table, uri.toString(), payload,
+                () -> new IxcResponse(emitRequest(Method.POST, BODY_HANDLER)));
+    }
+
+    private CompletableFuture<IxcResponse> emitListingAsync(String payload) {
+        InFlightRequests inFlight = getInFlightRequests();
+        if (inFlight == null) {
+            return emitRequestAsync(Method.POST);
+        }
+        return inFlight.executeAsync(table, uri.toString(), payload, () -> emitRequestAsync(Method.POST));
+    }
+
+    private <B> HttpResponse<B> emitRequest(Method method, HttpResponse.BodyHandler<B> handler)
+            throws NetworkConnectionException {
+        IxcMetrics metrics = IxcContext.INSTANCE.getMetrics();
+        if (metrics != null) {
+            return emitMeasuredRequest(metrics, method, handler);
+        }
+        try {
+            RequestDispatcher dispatcher = getDispatcher();
+            HttpRequest request = buildRequest(dispatcher.getTransport(), method);
+            return dispatcher.send(request, handler, listing, isIdempotent(method));
+        }
+        catch (IllegalArgumentException e) {
+            throw new NetworkConnectionException(e);
+        }
+    }
+
+    private <B> HttpResponse<B> emitMeasuredRequest(IxcMetrics metrics, Method method,
+                                                    HttpResponse.BodyHandler<B> handler)
+            throws NetworkConnectionException {
+        String label = getMethodLabel(method);
+        long bytesSent = publisher.contentLength();
+        metrics.onRequestStarted(table, label);
+        long start = System.nanoTime();
+        try {
+            RequestDispatcher dispatcher = getDispatcher();
+            HttpRequest request = buildRequest(dispatcher.getTransport(), method);
+            HttpResponse<B> response = dispatcher.send(request, handler, listing, isIdempotent(method));
+            metrics.onRequestCompleted(table, label, response.statusCode(), System.nanoTime() - start, bytesSent,
+                    getBytesReceived(response));
+            return response;
+        }
+        catch (IllegalArgumentException e) {
+            metrics.onRequestFailed(table, label, e, System.nanoTime() - start);
+            throw new NetworkConnectionException(e);
+        }
+        catch (RuntimeException e) {
+            metrics.onRequestFailed(table, label, getFailureKind(e), System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<IxcResponse> emitRequestAsync(Method method) {
+        IxcMetrics metrics = IxcContext.INSTANCE.getMetrics();
+        if (metrics != null) {
+            return emitMeasuredRequestAsync(metrics, method);
+        }
+        try {
+            RequestDispatcher dispatcher = getDispatcher();
+            HttpRequest request = buildRequest(dispatcher.getTransport(), method);
+            return dispatcher.sendAsync(request, BODY_HANDLER, listing, isIdempotent(method))
+                    .handle((response, error) -> {
+                        if (error != null) {
+                            throw toFailure(error);
+                        }
+                        return new IxcResponse(response);
+                    });
+        }
+        catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new NetworkConnectionException(e));
+        }
+    }
+
+    private CompletableFuture<IxcResponse> emitMeasuredRequestAsync(IxcMetrics metrics, Method method) {
+        String label = getMethodLabel(method);
+        long bytesSent = publisher.contentLength();
+        metrics.onRequestStarted(table, label);
+        long start = System.nanoTime();
+        try {
+            RequestDispatcher dispatcher = getDispatcher();
+            HttpRequest request = buildRequest(dispatcher.getTransport(), method);
+            return dispatcher.sendAsync(request, BODY_HANDLER, listing, isIdempotent(method))
+                    .handle((response, error) -> {
+                        long nanos = System.nanoTime() - start;
+                        if (error != null) {
+                            RuntimeException failure = toFailure(error);
+                            metrics.onRequestFailed(table, label, getFailureKind(failure), nanos);
+                            throw failure;
+                        }
+                        metrics.onRequestCompleted(table, label, response.statusCode(), nanos, bytesSent,
+                                getBytesReceived(response));
+                        return new IxcResponse(response);
+                    });
+        }
+        catch (IllegalArgumentException e) {
+            metrics.onRequestFailed(table, label, e, System.nanoTime() - start);
+            return CompletableFuture.failedFuture(new NetworkConnectionException(e));
+        }
+    }
+
+    private String getMethodLabel(Method method) {
+        return listing ? "GET" : method.value();
+    }
 
-            HttpRequest.Builder builder = HttpRequest.newBuilder(uri);
-            builder.method(method.value(), publisher);
-            headers.forEach(h -> builder.setHeader(h.getName(), h.getValue()));
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        }
+        catch (IOException ignored) {
+        }
+    }
 
-            return client.send(builder.build(), BODY_HANDLER);
+    private static long getBytesReceived(HttpResponse<?> response) {
+        return response.headers().firstValueAsLong("Content-Length").orElse(-1);
+    }
+
+    private static RuntimeException toFailure(Throwable error) {
+        Throwable cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+        if (cause instanceof IxcException failure) {
+            return failure;
         }
-        catch (IllegalArgumentException | UncheckedIOException | InterruptedException | IOException e) {
-            throw new NetworkConnectionException();
+        return new NetworkConnectionException(cause);
+    }
+
+    private static Throwable getFailureKind(RuntimeException failure) {
+        if (failure instanceof NetworkConnectionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+
+    private List<BulkResult> emitAll(Stream<? extends IxcRecord> records, int concurrency,
+                                     Function<IxcRecord, CompletableFuture<IxcResponse>> write) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        List<CompletableFuture<BulkResult>> results = new ArrayList<>();
+
+        records.forEachOrdered(record -> {
+            permits.acquireUninterruptibly();
+            CompletableFuture<IxcResponse> sent;
+            try {
+                sent = write.apply(record);
+            }
+            catch (RuntimeException e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            results.add(sent.handle((response, error) -> {
+                permits.release();
+                Throwable cause = (error instanceof CompletionException) ? error.getCause() : error;
+                return new BulkResult(record, response, cause);
+            }));
+        });
+
+        return results.stream().map(CompletableFuture::join).toList();
+    }
+
+    private boolean isIdempotent(Method method) {
+        return listing || method != Method.POST;
+    }
+
+    private RequestDispatcher getDispatcher() {
+        if (tenant != null) {
+            return tenant.getDispatcher();
+        }
+        IxcContext context = IxcContext.INSTANCE;
+        RateLimits limits = context.getRateLimits();
+        DomainRateLimiter limiter = (limits != null)
+                ? DomainRateLimiter.forDomain(context.getEnv().getDomain(), limits)
+                : null;
+        return new RequestDispatcher(context.getTransport(), limiter, context.getRetryPolicy());
+    }
+
+    private HttpRequest buildRequest(IxcTransport transport, Method method) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri);
+        builder.method(method.value(), publisher);
+        builder.timeout(transport.getRequestTimeout());
+        headers.forEach(h -> builder.setHeader(h.getName(), h.getValue()));
+        if (transport.isCompression()) {
+            builder.setHeader("Accept-Encoding", "gzip");
         }
+        return builder.build();
     }
 }
@@ -0,0 +1,205 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * <p>
+ * A classe 'RetryPolicy' define como as requisições que falharam devem ser reenviadas para a API do IXC Provedor.
+ * Uma requisição é reenviada quando ocorre uma falha de comunicação ou quando o servidor responde com um dos status
+ * considerados temporários, aguardando um intervalo que cresce exponencialmente a cada tentativa, com variação
+ * aleatória (<i>jitter</i>), para que vários clientes não reenviem ao mesmo tempo.
+ * </p>
+ *
+ * <p>
+ * Por padrão, apenas as requisições idempotentes (listagens, PUT e DELETE) são reenviadas, pois o reenvio de uma
+ * inserção pode duplicar o registro. Opcionalmente, as listagens podem ser enviadas em duplicidade (<i>hedging</i>):
+ * se a primeira requisição não responder dentro do p95 das latências observadas, uma segunda requisição idêntica é
+ * enviada, e a resposta que chegar primeiro é utilizada.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final boolean retryNonIdempotent;
+    private final Set<Integer> retryableStatusCodes;
+    private final boolean hedging;
+    private final LatencyTracker latencies;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.retryNonIdempotent = builder.retryNonIdempotent;
+        this.retryableStatusCodes = Set.copyOf(builder.retryableStatusCodes);
+        this.hedging = builder.hedging;
+        this.latencies = new LatencyTracker(512, 20);
+    }
+
+    /**
+     * @return Uma nova instância de {@link Builder}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * @param attempt O número da tentativa que acabou de falhar, começando em 1.
+     * @param idempotent Se a requisição pode ser reenviada sem efeitos colaterais.
+     * @return <b>true</b> se a requisição deve ser reenviada.
+     */
+    public boolean canRetry(int attempt, boolean idempotent) {
+        return attempt < maxAttempts && (idempotent || retryNonIdempotent);
+    }
+
+    /**
+     * @param statusCode O código numérico do status da resposta.
+     * @return <b>true</b> se o status indica uma falha temporária do servidor.
+     */
+    public boolean isRetryableStatus(int statusCode) {
+        return retryableStatusCodes.contains(statusCode);
+    }
+
+    /**
+     * @param attempt O número da tentativa que acabou de falhar, começando em 1.
+     * @return O tempo de espera, em nanossegundos, antes da próxima tentativa.
+     */
+    public long backoffNanos(int attempt) {
+        long initial = initialBackoff.toNanos();
+        long max = maxBackoff.toNanos();
+        long exponential = Math.max(1, initial);
+        for (int i = 1; i < attempt && exponential < max; i++) {
+            exponential *= 2;
+        }
+        exponential = Math.min(max, exponential);
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    /**
+     * @return <b>true</b> se as listagens devem ser enviadas em duplicidade quando demorarem a responder.
+     */
+    public boolean isHedging() {
+        return hedging;
+    }
+
+    /**
+     * @return O tempo de espera, em nanossegundos, antes do envio da requisição em duplicidade, ou <b>-1</b> se ainda
+     *         não houver latências suficientes para estimar o p95.
+     */
+    public long hedgeDelayNanos() {
+        return latencies.percentile(0.95);
+    }
+
+    /**
+     * @param nanos A latência de uma requisição de listagem bem sucedida, em nanossegundos.
+     */
+    public void recordLatency(long nanos) {
+        latencies.record(nanos);
+    }
+
+    /**
+     * <p>
+     * A classe 'Builder' constrói uma instância de {@link RetryPolicy}.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     */
+    public static class Builder {
+
+        private int maxAttempts;
+        private Duration initialBackoff;
+        private Duration maxBackoff;
+        private boolean retryNonIdempotent;
+        private Set<Integer> retryableStatusCodes;
+        private boolean hedging;
+
+        private Builder() {
+            maxAttempts = 3;
+            initialBackoff = Duration.ofMillis(200);
+            maxBackoff = Duration.ofSeconds(5);
+            retryNonIdempotent = false;
+            retryableStatusCodes = Set.of(429, 502, 503, 504);
+            hedging = false;
+        }
+
+        /**
+         * @param maxAttempts A quantidade máxima de tentativas, incluindo a primeira. O padrão é 3.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = Math.max(1, maxAttempts);
+            return this;
+        }
+
+        /**
+         * @param initialBackoff O tempo de espera antes da segunda tentativa. O padrão é 200 milissegundos.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder initialBackoff(Duration initialBackoff) {
+            if (initialBackoff != null) {
+                this.initialBackoff = initialBackoff;
+            }
+            return this;
+        }
+
+        /**
+         * @param maxBackoff O tempo máximo de espera entre duas tentativas. O padrão é 5 segundos.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder maxBackoff(Duration maxBackoff) {
+            if (maxBackoff != null) {
+                this.maxBackoff = maxBackoff;
+            }
+            return this;
+        }
+
+        /**
+         * @param retryNonIdempotent Se <b>true</b>, as inserções (POST) também são reenviadas.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder retryNonIdempotent(boolean retryNonIdempotent) {
+            this.retryNonIdempotent = retryNonIdempotent;
+            return this;
+        }
+
+        /**
+         * @param statusCodes Os status de resposta considerados temporários. O padrão é 429, 502, 503 e 504.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder retryableStatusCodes(Set<Integer> statusCodes) {
+            if (statusCodes != null) {
+                this.retryableStatusCodes = statusCodes;
+            }
+            return this;
+        }
+
+        /**
+         * @param hedging Se <b>true</b>, as listagens que demorarem mais que o p95 observado são enviadas em
+         *                duplicidade.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder hedging(boolean hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        /**
+         * @return Uma nova instância de {@link RetryPolicy}.
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * <p>
+ * A classe 'StringColumn' armazena uma coluna de texto codificada por dicionário: cada valor distinto é mantido uma
+ * única vez, e cada linha guarda apenas o código do seu valor em um <b>int[]</b>. Colunas com poucos valores
+ * distintos, como situações, datas e cidades, ocupam pouco mais de 4 bytes por linha.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class StringColumn extends Column {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+    private int[] values = new int[0];
+
+    /**
+     * @param name O nome da propriedade dos registros armazenada na coluna.
+     */
+    StringColumn(String name) {
+        super(name);
+    }
+
+    /**
+     * @param row A posição da linha.
+     * @return O texto da linha, ou <b>null</b> se a linha não possuir valor.
+     */
+    public String getString(int row) {
+        return isNull(row) ? null : dictionary.get(values[row]);
+    }
+
+    /**
+     * @param row A posição da linha.
+     * @return O código do valor da linha no dicionário, ou <b>-1</b> se a linha não possuir valor.
+     */
+    public int getCode(int row) {
+        return isNull(row) ? -1 : values[row];
+    }
+
+    /**
+     * @return Os valores distintos da coluna, na ordem dos seus códigos.
+     */
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(dictionary);
+    }
+
+    @Override
+    public String getAsString(int row) {
+        return getString(row);
+    }
+
+    @Override
+    void append(String value) {
+        if (value.isEmpty()) {
+            appendNull();
+            return;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            codes.put(value, code);
+            dictionary.add(value);
+        }
+        ensureCapacity(size + 1);
+        values[size++] = code;
+    }
+
+    @Override
+    void trim() {
+        if (values.length > size) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, grow(values.length, capacity));
+        }
+    }
+}
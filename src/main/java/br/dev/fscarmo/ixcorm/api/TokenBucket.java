@@ -0,0 +1,106 @@
+package br.dev.fscarmo.ixcorm.api;
+
+
+/**
+ * <p>
+ * A classe 'TokenBucket' implementa um limitador de taxa do tipo <i>token bucket</i>, que se adapta às respostas do
+ * servidor. Cada requisição consome uma permissão; as permissões são repostas continuamente, na taxa atual, até o
+ * limite de <b>burst</b>. Quando não há permissões disponíveis, <b>reserve()</b> informa quanto tempo o chamador deve
+ * aguardar, de modo que as requisições formam uma fila em vez de falhar.
+ * </p>
+ *
+ * <p>
+ * Quando o servidor sinaliza sobrecarga, a taxa atual é reduzida pela metade (até 1/32 da taxa configurada). A cada
+ * resposta bem sucedida, a taxa volta a crescer gradualmente, até alcançar novamente a taxa configurada.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private double maxRate;
+    private double minRate;
+    private double burst;
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * @param permitsPerSecond A taxa máxima de permissões por segundo.
+     * @param burst A quantidade máxima de permissões acumuladas, disponíveis de uma só vez.
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this.maxRate = Math.max(0.001, permitsPerSecond);
+        this.minRate = maxRate / 32;
+        this.burst = Math.max(1, burst);
+        this.rate = maxRate;
+        this.tokens = this.burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * <p>
+     * Altera a taxa máxima e o limite de <b>burst</b>, mantendo as permissões já acumuladas até o novo limite. A taxa
+     * atual é limitada à nova taxa máxima, e volta a crescer gradualmente quando a nova taxa é maior.
+     * </p>
+     *
+     * @param permitsPerSecond A nova taxa máxima de permissões por segundo.
+     * @param burst A nova quantidade máxima de permissões acumuladas.
+     */
+    public synchronized void reconfigure(double permitsPerSecond, int burst) {
+        refill(System.nanoTime());
+        this.maxRate = Math.max(0.001, permitsPerSecond);
+        this.minRate = maxRate / 32;
+        this.burst = Math.max(1, burst);
+        this.rate = Math.max(minRate, Math.min(maxRate, rate));
+        this.tokens = Math.min(this.burst, tokens);
+    }
+
+    /**
+     * <p>
+     * Reserva uma permissão.
+     * </p>
+     *
+     * @return O tempo, em nanossegundos, que o chamador deve aguardar antes de enviar a requisição. Zero quando há
+     *         permissões disponíveis.
+     */
+    public synchronized long reserve() {
+        refill(System.nanoTime());
+        tokens -= 1;
+        return (tokens >= 0) ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+    }
+
+    /**
+     * Reduz a taxa atual pela metade, após o servidor sinalizar sobrecarga.
+     */
+    public synchronized void onThrottled() {
+        refill(System.nanoTime());
+        rate = Math.max(minRate, rate / 2);
+    }
+
+    /**
+     * Aumenta gradualmente a taxa atual, após uma resposta bem sucedida.
+     */
+    public synchronized void onSuccess() {
+        if (rate < maxRate) {
+            refill(System.nanoTime());
+            rate = Math.min(maxRate, rate + maxRate / 20);
+        }
+    }
+
+    /**
+     * @return A taxa atual de permissões por segundo.
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - lastRefill) * rate / NANOS_PER_SECOND);
+        lastRefill = now;
+    }
+}
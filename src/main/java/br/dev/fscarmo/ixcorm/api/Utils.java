@@ -11,7 +11,7 @@ import java.text.Normalizer;
  * </p>
  *
  * @author Felipe S. Carmo
- * @version 1.0.2
+ * @version 1.1.0
  * @since 2025-09-27
  */
 public abstract class Utils {
@@ -46,4 +46,51 @@ public abstract class Utils {
             return "";
         }
     }
+
+    /**
+     * <p>
+     * A classe 'Json' possui métodos simples de escrita de valores no formato JSON, usados na serialização das queries
+     * de busca.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     */
+    public static class Json {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        /**
+         * <p>
+         * Adiciona ao <b>builder</b> o conteúdo de <b>text</b>, escapando as aspas, as barras invertidas e os
+         * caracteres de controle, para que possa ser inserido entre aspas em uma {@link String} JSON.
+         * </p>
+         *
+         * @param builder O {@link StringBuilder} que receberá o texto escapado.
+         * @param text O texto a ser escapado.
+         * @return O próprio <b>builder</b>.
+         */
+        public static StringBuilder escape(StringBuilder builder, CharSequence text) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '"' -> builder.append("\\\"");
+                    case '\\' -> builder.append("\\\\");
+                    case '\n' -> builder.append("\\n");
+                    case '\r' -> builder.append("\\r");
+                    case '\t' -> builder.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                        }
+                        else {
+                            builder.append(c);
+                        }
+                    }
+                }
+            }
+            return builder;
+        }
+    }
 }
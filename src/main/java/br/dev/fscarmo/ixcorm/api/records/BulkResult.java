@@ -0,0 +1,13 @@
+package br.dev.fscarmo.ixcorm.api.records;
+
+
+import br.dev.fscarmo.ixcorm.IxcRecord;
+import br.dev.fscarmo.ixcorm.IxcResponse;
+
+
+public record BulkResult(IxcRecord record, IxcResponse response, Throwable error) {
+
+    public boolean isSuccess() {
+        return error == null && response != null && response.getStatusCode() >= 200 && response.getStatusCode() < 300;
+    }
+}
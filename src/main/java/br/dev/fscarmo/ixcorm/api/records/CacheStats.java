@@ -0,0 +1,10 @@
+package br.dev.fscarmo.ixcorm.api.records;
+
+
+public record CacheStats(long hits, long misses, long evictions, int size) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return (requests == 0) ? 0.0 : (double) hits / requests;
+    }
+}
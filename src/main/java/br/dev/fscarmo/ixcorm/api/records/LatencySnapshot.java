@@ -0,0 +1,6 @@
+package br.dev.fscarmo.ixcorm.api.records;
+
+
+public record LatencySnapshot(long count, double meanNanos, long p50Nanos, long p95Nanos, long p99Nanos,
+                              long maxNanos) {
+}
@@ -0,0 +1,9 @@
+package br.dev.fscarmo.ixcorm.api.records;
+
+
+public record RateLimits(double listingsPerSecond, double writesPerSecond, int burst) {
+
+    public static RateLimits defaults() {
+        return new RateLimits(10, 5, 10);
+    }
+}
@@ -0,0 +1,12 @@
+package br.dev.fscarmo.ixcorm.api.records;
+
+
+import java.util.Set;
+
+
+public record SyncCheckpoint(String watermark, Set<Integer> boundaryIds) {
+
+    public SyncCheckpoint {
+        boundaryIds = Set.copyOf(boundaryIds);
+    }
+}
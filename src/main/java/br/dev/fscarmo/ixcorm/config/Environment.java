@@ -8,14 +8,20 @@ package br.dev.fscarmo.ixcorm.config;
  * variáveis através do <b>Docker</b> ou de <b>Application Properties.</b>
  * </p>
  *
+ * <p>
+ * Por padrão, as requisições são enviadas para <b>https://{domínio}/webservice/v1/</b>. Esse endereço pode ser
+ * substituído por <b>setEndpoint(String endpoint)</b>, para apontar, por exemplo, para um servidor local de testes.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 1.0.2
+ * @version 1.1.0
  * @since 2025-09-27
  */
 public abstract class Environment {
 
     private String token;
     private String domain;
+    private String endpoint;
 
     /**
      * <p>
@@ -55,6 +61,25 @@ public abstract class Environment {
         }
     }
 
+    /**
+     * <p>
+     * Define o endereço base da API do IXC Provedor, ao qual é adicionado o nome da tabela de cada requisição.
+     * </p>
+     *
+     * <p>
+     * Se o endereço já tiver sido definido por <b>setEndpoint(String endpoint)</b>, ele não será sobrescrito.
+     * </p>
+     *
+     * @param endpoint O novo endereço base, como <b>http://localhost:8080/webservice/v1/</b>.
+     */
+    protected void setEndpoint(String endpoint) {
+        boolean newEndpointIsValid = (endpoint != null && !endpoint.isBlank());
+        boolean oldEndpointIsEmpty = (this.endpoint == null || this.endpoint.isBlank());
+        if (newEndpointIsValid && oldEndpointIsEmpty) {
+            this.endpoint = endpoint.endsWith("/") ? endpoint : endpoint +"/";
+        }
+    }
+
     /**
      * <p>
      * Recupera o valor do token previamente definido por <b>setToken(String token).</b>
@@ -76,4 +101,16 @@ public abstract class Environment {
     public String getDomain() {
         return domain;
     }
+
+    /**
+     * <p>
+     * Recupera o endereço base da API do IXC Provedor, previamente definido por <b>setEndpoint(String endpoint)</b>,
+     * ou o endereço padrão do domínio.
+     * </p>
+     *
+     * @return Uma {@link String} com o endereço base, terminado em <b>"/"</b>.
+     */
+    public String getEndpoint() {
+        return (endpoint != null) ? endpoint : "https://"+ domain +"/webservice/v1/";
+    }
 }
@@ -20,20 +20,27 @@ import br.dev.fscarmo.ixcorm.exception.UnreadableDockerEnvException;
  *     - IXC_SERVER_DOMAIN=www.domínio-do-seu-servidor-ixc.com.br
  * }
  *
+ * <p>
+ * Opcionalmente, a variável <b>IXC_SERVER_ENDPOINT</b> substitui o endereço base da API, para apontar, por exemplo,
+ * para um servidor local de testes.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 1.0.1
+ * @version 1.1.0
  * @since 2025-09-27
  */
 public class DockerEnv extends Environment {
 
     private static final String IXC_ACCESS_TOKEN = "IXC_ACCESS_TOKEN";
     private static final String IXC_SERVER_DOMAIN = "IXC_SERVER_DOMAIN";
+    private static final String IXC_SERVER_ENDPOINT = "IXC_SERVER_ENDPOINT";
 
     public DockerEnv() {
         String token = getEnvVarFromSystem(IXC_ACCESS_TOKEN);
         String domain = getEnvVarFromSystem(IXC_SERVER_DOMAIN);
         setToken(token);
         setDomain(domain);
+        setEndpoint(System.getenv(IXC_SERVER_ENDPOINT));
     }
 
     private String getEnvVarFromSystem(String key) throws UnreadableDockerEnvException {
@@ -27,20 +27,28 @@ import java.util.Properties;
  * ixc.server.domain=www.domínio-do-seu-servidor-ixc.com.br
  * }
  *
+ * <p>
+ * Opcionalmente, a propriedade <b>ixc.server.endpoint</b> substitui o endereço base da API, para apontar, por exemplo,
+ * para um servidor local de testes.
+ * </p>
+ *
  * @author Felipe S. Carmo
- * @version 1.1.0
+ * @version 1.2.0
  * @since 2025-09-27
  */
 public class PropertiesEnv extends Environment {
 
     public static final String IXC_ACCESS_TOKEN = "ixc.access.token";
     public static final String IXC_SERVER_DOMAIN = "ixc.server.domain";
+    public static final String IXC_SERVER_ENDPOINT = "ixc.server.endpoint";
 
     public PropertiesEnv() {
         String token = getEnvVarFromProperties(IXC_ACCESS_TOKEN).orElse(null);
         String domain = getEnvVarFromProperties(IXC_SERVER_DOMAIN).orElse(null);
+        String endpoint = getEnvVarFromProperties(IXC_SERVER_ENDPOINT).orElse(null);
         setToken(token);
         setDomain(domain);
+        setEndpoint(endpoint);
     }
 
     private Optional<String> getEnvVarFromProperties(String key) {
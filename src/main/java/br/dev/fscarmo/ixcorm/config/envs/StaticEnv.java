@@ -0,0 +1,38 @@
+package br.dev.fscarmo.ixcorm.config.envs;
+
+
+import br.dev.fscarmo.ixcorm.config.Environment;
+
+
+/**
+ * <p>
+ * A classe 'StaticEnv' recebe o token e o domínio diretamente no construtor. É útil quando as credenciais de vários
+ * provedores são carregadas pela própria aplicação (de um banco de dados, por exemplo), para a criação de um
+ * {@link br.dev.fscarmo.ixcorm.IxcTenant} para cada um deles.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class StaticEnv extends Environment {
+
+    /**
+     * @param token O token de acesso gerado dentro do IXC Provedor.
+     * @param domain O domínio do servidor do IXC Provedor.
+     */
+    public StaticEnv(String token, String domain) {
+        setToken(token);
+        setDomain(domain);
+    }
+
+    /**
+     * @param token O token de acesso gerado dentro do IXC Provedor.
+     * @param domain O domínio do servidor do IXC Provedor.
+     * @param endpoint O endereço base da API, que substitui o endereço padrão do domínio.
+     */
+    public StaticEnv(String token, String domain, String endpoint) {
+        this(token, domain);
+        setEndpoint(endpoint);
+    }
+}
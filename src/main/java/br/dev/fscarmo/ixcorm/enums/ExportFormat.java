@@ -0,0 +1,28 @@
+package br.dev.fscarmo.ixcorm.enums;
+
+
+/**
+ * <p>
+ * O enum 'ExportFormat' define os formatos de arquivo em que os registros podem ser exportados por
+ * {@link br.dev.fscarmo.ixcorm.IxcExport}.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public enum ExportFormat {
+
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private final String value;
+
+    ExportFormat(String extension) {
+        value = extension;
+    }
+
+    public String value() {
+        return value;
+    }
+}
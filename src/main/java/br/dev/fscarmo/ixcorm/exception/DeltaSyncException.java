@@ -0,0 +1,17 @@
+package br.dev.fscarmo.ixcorm.exception;
+
+
+public class DeltaSyncException extends IxcException {
+
+    public DeltaSyncException(String name) {
+        super("Falha na sincronização '" + name + "'.");
+    }
+
+    public DeltaSyncException(String name, String message) {
+        super("Falha na sincronização '" + name + "': '" + message + "'.");
+    }
+
+    public DeltaSyncException(String name, Throwable cause) {
+        super("Falha na sincronização '" + name + "'.", cause);
+    }
+}
@@ -0,0 +1,12 @@
+package br.dev.fscarmo.ixcorm.exception;
+
+
+import java.nio.file.Path;
+
+
+public class ExportException extends IxcException {
+
+    public ExportException(Path file) {
+        super("Falha ao exportar os registros para '" + file + "'.");
+    }
+}
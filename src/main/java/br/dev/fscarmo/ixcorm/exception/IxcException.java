@@ -6,4 +6,8 @@ public class IxcException extends RuntimeException {
     public IxcException(String message) {
         super(message);
     }
+
+    public IxcException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
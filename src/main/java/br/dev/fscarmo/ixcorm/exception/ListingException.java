@@ -0,0 +1,9 @@
+package br.dev.fscarmo.ixcorm.exception;
+
+
+public class ListingException extends IxcException {
+
+    public ListingException(int statusCode, String message) {
+        super("Falha na listagem de registros do servidor IXC (status " + statusCode + "): '" + message + "'.");
+    }
+}
@@ -0,0 +1,12 @@
+package br.dev.fscarmo.ixcorm.exception;
+
+
+import java.nio.file.Path;
+
+
+public class MirrorStoreException extends IxcException {
+
+    public MirrorStoreException(Path file) {
+        super("Falha ao acessar o espelho local '" + file + "'.");
+    }
+}
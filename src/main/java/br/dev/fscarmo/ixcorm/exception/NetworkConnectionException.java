@@ -6,4 +6,8 @@ public class NetworkConnectionException extends IxcException {
     public NetworkConnectionException() {
         super("Falha na conexão com o servidor IXC.");
     }
+
+    public NetworkConnectionException(Throwable cause) {
+        super("Falha na conexão com o servidor IXC.", cause);
+    }
 }
@@ -0,0 +1,462 @@
+package br.dev.fscarmo.ixcorm.stub;
+
+
+import br.dev.fscarmo.ixcorm.IxcResponseBody;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * <p>
+ * A classe 'IxcStubServer' simula, sobre o {@link HttpServer} do JDK, a API <b>/webservice/v1/{tabela}</b> do IXC
+ * Provedor, para que a biblioteca possa ser exercitada em testes de integração e de carga sem acesso a um servidor
+ * real. As requisições com o header <b>["ixcsoft": "listar"]</b> são tratadas como listagens, com os filtros do
+ * <b>grid_param</b>, a ordenação e a paginação por <b>page</b>/<b>rp</b>; as demais requisições POST, PUT e DELETE
+ * inserem, atualizam e removem registros das {@link StubTable}s em memória.
+ * </p>
+ *
+ * <p>
+ * Para simular um servidor sob carga, é possível configurar uma latência fixa, com variação aleatória, uma taxa de
+ * respostas com erro e o tamanho de uma propriedade de preenchimento adicionada a cada registro gerado. Para testes
+ * que precisam de uma falha em um ponto exato, <b>failNext(int count)</b> responde com erro às próximas requisições.
+ * </p>
+ *
+ * <p>
+ * Assim como os servidores web que costumam ficar à frente do IXC Provedor, as respostas maiores que 1 KB são
+ * compactadas com gzip quando a requisição envia o header <b>Accept-Encoding: gzip</b>.
+ * </p>
+ *
+ * {@snippet lang = java:
+ * try (IxcStubServer server = IxcStubServer.newBuilder()
+ *         .table("cliente", 10_000)
+ *         .latency(Duration.ofMillis(20))
+ *         .errorRate(0.01)
+ *         .build()
+ *         .start()) {
+ *
+ *     IxcTenant tenant = IxcTenant.newBuilder("stub", new StaticEnv("token", "localhost", server.getEndpoint()))
+ *             .build();
+ *     IxcResponse response = new Cliente(tenant).GET();
+ * }
+ * }
+ *
+ * @author Felipe S. Carmo
+ * @version 1.1.0
+ * @since 2026-10-17
+ */
+public class IxcStubServer implements AutoCloseable {
+
+    static {
+        // Sem TCP_NODELAY, o HttpServer do JDK soma ~40ms de espera do ACK atrasado a cada resposta.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private static final String CONTEXT = "/webservice/v1/";
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
+    private final int port;
+    private final Duration latency;
+    private final Duration latencyJitter;
+    private final double errorRate;
+    private final int errorStatus;
+    private final boolean compression;
+    private final Map<String, StubTable> tables = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final AtomicInteger pendingFailures = new AtomicInteger();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private IxcStubServer(Builder builder) {
+        this.port = builder.port;
+        this.latency = builder.latency;
+        this.latencyJitter = builder.latencyJitter;
+        this.errorRate = builder.errorRate;
+        this.errorStatus = builder.errorStatus;
+        this.compression = builder.compression;
+        builder.tables.forEach((name, seed) -> {
+            StubTable table = getTable(name);
+            for (int id = 1; id <= seed.rows(); id++) {
+                JsonObject record = seed.generator().apply(id);
+                if (builder.payloadSize > 0) {
+                    record.addProperty("payload", "x".repeat(builder.payloadSize));
+                }
+                table.insert(record);
+            }
+        });
+    }
+
+    /**
+     * @return Uma nova instância de {@link Builder}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * <p>
+     * Abre a porta local e começa a responder às requisições.
+     * </p>
+     *
+     * @return A própria instância de {@link IxcStubServer}.
+     * @throws UncheckedIOException Se não for possível abrir a porta.
+     */
+    public synchronized IxcStubServer start() {
+        if (server != null) {
+            return this;
+        }
+        try {
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+            server.setExecutor(executor);
+            server.createContext(CONTEXT, this::handle);
+            server.start();
+            return this;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return O endereço base da API simulada, como <b>http://127.0.0.1:{porta}/webservice/v1/</b>, para ser
+     *         informado em <b>StaticEnv(String token, String domain, String endpoint)</b>.
+     */
+    public String getEndpoint() {
+        return "http://127.0.0.1:"+ server.getAddress().getPort() + CONTEXT;
+    }
+
+    /**
+     * @param name O nome da tabela.
+     * @return A {@link StubTable} com os registros da tabela, criada vazia caso ainda não exista.
+     */
+    public StubTable getTable(String name) {
+        return tables.computeIfAbsent(name, StubTable::new);
+    }
+
+    /**
+     * @return A quantidade de requisições recebidas desde o início do servidor.
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * @return A quantidade de bytes enviados nos corpos das respostas, após a compactação.
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * <p>
+     * Responde às próximas <b>count</b> requisições com o status de erro configurado, independente da taxa de erros.
+     * </p>
+     *
+     * @param count A quantidade de requisições que serão respondidas com erro.
+     */
+    public void failNext(int count) {
+        pendingFailures.set(Math.max(0, count));
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            byte[] body;
+            try (InputStream input = exchange.getRequestBody()) {
+                body = input.readAllBytes();
+            }
+
+            simulateLatency();
+            if (pendingFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0
+                    || (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate)) {
+                respond(exchange, errorStatus, error("Erro simulado pelo IxcStubServer"));
+                return;
+            }
+
+            String[] path = exchange.getRequestURI().getPath().substring(CONTEXT.length()).split("/");
+            if (path.length == 0 || path[0].isBlank()) {
+                respond(exchange, 404, error("Tabela não informada"));
+                return;
+            }
+
+            try {
+                respond(exchange, 200, route(exchange, getTable(path[0]), path, body));
+            }
+            catch (JsonParseException | IllegalStateException | NumberFormatException e) {
+                respond(exchange, 400, error("Requisição inválida: "+ e.getMessage()));
+            }
+        }
+    }
+
+    private String route(HttpExchange exchange, StubTable table, String[] path, byte[] body) {
+        Integer id = (path.length > 1) ? parseId(path[1]) : null;
+        boolean listing = "listar".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("ixcsoft"));
+
+        return switch (exchange.getRequestMethod()) {
+            case "POST" -> listing ? table.list(parse(body)) : insert(table, parse(body));
+            case "PUT" -> update(table, id, parse(body));
+            case "DELETE" -> delete(table, id);
+            default -> error("Método não suportado");
+        };
+    }
+
+    private String insert(StubTable table, JsonObject record) {
+        int id = table.insert(record);
+        return "{\"type\":\"success\",\"message\":\"Registro inserido com sucesso!\",\"id\":\""+ id +"\"}";
+    }
+
+    private String update(StubTable table, Integer id, JsonObject changes) {
+        if (id == null || !table.update(id, changes)) {
+            return error("Registro não encontrado");
+        }
+        return "{\"type\":\"success\",\"message\":\"Registro atualizado com sucesso!\",\"id\":\""+ id +"\"}";
+    }
+
+    private String delete(StubTable table, Integer id) {
+        if (id == null || !table.delete(id)) {
+            return error("Registro não encontrado");
+        }
+        return "{\"type\":\"success\",\"message\":\"Registro removido com sucesso!\"}";
+    }
+
+    private void simulateLatency() {
+        long nanos = latency.toNanos();
+        long jitter = latencyJitter.toNanos();
+        if (jitter > 0) {
+            nanos += ThreadLocalRandom.current().nextLong(jitter + 1);
+        }
+        if (nanos > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(nanos));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static JsonObject parse(byte[] body) {
+        if (body.length == 0) {
+            return new JsonObject();
+        }
+        JsonElement element = JsonParser.parseString(new String(body, StandardCharsets.UTF_8));
+        return element.getAsJsonObject();
+    }
+
+    private static Integer parseId(String id) {
+        return id.isBlank() ? null : Integer.valueOf(id);
+    }
+
+    private static String error(String message) {
+        JsonObject error = new JsonObject();
+        error.addProperty("type", IxcResponseBody.ERROR_TYPE);
+        error.addProperty("message", message);
+        return error.toString();
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        if (compression && bytes.length > COMPRESSION_THRESHOLD && acceptsGzip(exchange)) {
+            bytes = gzip(bytes);
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        bytesSent.add(bytes.length);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static boolean acceptsGzip(HttpExchange exchange) {
+        String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        return accepted != null && accepted.toLowerCase().contains("gzip");
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output, 8192)) {
+            gzip.write(bytes);
+        }
+        return output.toByteArray();
+    }
+
+    private record Seed(int rows, IntFunction<JsonObject> generator) {
+    }
+
+    /**
+     * <p>
+     * A classe 'Builder' constrói uma instância de {@link IxcStubServer}.
+     * </p>
+     *
+     * @author Felipe S. Carmo
+     * @version 1.0.0
+     * @since 2026-10-17
+     */
+    public static class Builder {
+
+        private int port;
+        private Duration latency;
+        private Duration latencyJitter;
+        private double errorRate;
+        private int errorStatus;
+        private int payloadSize;
+        private boolean compression;
+        private final Map<String, Seed> tables;
+
+        private Builder() {
+            port = 0;
+            latency = Duration.ZERO;
+            latencyJitter = Duration.ZERO;
+            errorRate = 0;
+            errorStatus = 503;
+            payloadSize = 0;
+            compression = true;
+            tables = new LinkedHashMap<>();
+        }
+
+        /**
+         * @param port A porta local. O padrão é 0, que escolhe uma porta livre.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder port(int port) {
+            this.port = Math.max(0, port);
+            return this;
+        }
+
+        /**
+         * @param latency A latência adicionada a todas as respostas. O padrão é zero.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder latency(Duration latency) {
+            if (latency != null) {
+                this.latency = latency;
+            }
+            return this;
+        }
+
+        /**
+         * @param latencyJitter A variação aleatória máxima somada à latência de cada resposta. O padrão é zero.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder latencyJitter(Duration latencyJitter) {
+            if (latencyJitter != null) {
+                this.latencyJitter = latencyJitter;
+            }
+            return this;
+        }
+
+        /**
+         * @param errorRate A fração, entre 0 e 1, das requisições respondidas com erro. O padrão é zero.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = Math.clamp(errorRate, 0.0, 1.0);
+            return this;
+        }
+
+        /**
+         * @param errorStatus O status das respostas com erro simulado. O padrão é 503.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder errorStatus(int errorStatus) {
+            this.errorStatus = errorStatus;
+            return this;
+        }
+
+        /**
+         * @param payloadSize A quantidade de caracteres da propriedade <b>payload</b>, adicionada a cada registro
+         *                    gerado para aumentar o tamanho das respostas. O padrão é zero, sem a propriedade.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder payloadSize(int payloadSize) {
+            this.payloadSize = Math.max(0, payloadSize);
+            return this;
+        }
+
+        /**
+         * @param compression Se <b>false</b>, as respostas nunca são compactadas. O padrão é <b>true</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder compression(boolean compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        /**
+         * <p>
+         * Cria uma tabela com <b>rows</b> registros genéricos, com as propriedades <b>id</b>, <b>nome</b>,
+         * <b>ativo</b> e <b>valor</b>.
+         * </p>
+         *
+         * @param name O nome da tabela.
+         * @param rows A quantidade de registros gerados.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder table(String name, int rows) {
+            return table(name, rows, IxcStubServer.Builder::defaultRecord);
+        }
+
+        /**
+         * @param name O nome da tabela.
+         * @param rows A quantidade de registros gerados.
+         * @param generator Gera o registro de cada id, de 1 até <b>rows</b>.
+         * @return A própria instância de {@link Builder}.
+         */
+        public Builder table(String name, int rows, IntFunction<JsonObject> generator) {
+            tables.put(name, new Seed(Math.max(0, rows), generator));
+            return this;
+        }
+
+        /**
+         * @return Uma nova instância de {@link IxcStubServer}, que deve ser iniciada por <b>start()</b>.
+         */
+        public IxcStubServer build() {
+            return new IxcStubServer(this);
+        }
+
+        private static JsonObject defaultRecord(int id) {
+            JsonObject record = new JsonObject();
+            record.addProperty("id", String.valueOf(id));
+            record.addProperty("nome", "Registro "+ id);
+            record.addProperty("ativo", (id % 10 == 0) ? "N" : "S");
+            record.addProperty("valor", String.valueOf(id * 1.5));
+            return record;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package br.dev.fscarmo.ixcorm.stub;
+
+
+import br.dev.fscarmo.ixcorm.enums.Operator;
+import br.dev.fscarmo.ixcorm.enums.Sort;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+
+/**
+ * <p>
+ * A classe 'StubTable' armazena em memória os registros de uma tabela do {@link IxcStubServer}, e aplica sobre eles
+ * os filtros do <b>grid_param</b>, a ordenação e a paginação de uma query de busca, da mesma forma que a API do IXC
+ * Provedor.
+ * </p>
+ *
+ * <p>
+ * Os registros são mantidos como {@link JsonObject}s, com todos os valores no formato de texto, e nunca são alterados
+ * depois de armazenados: cada atualização substitui o registro por uma cópia.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class StubTable {
+
+    private final String name;
+    private final Map<Integer, JsonObject> records = new ConcurrentSkipListMap<>();
+    private final AtomicInteger lastId = new AtomicInteger();
+
+    /**
+     * @param name O nome da tabela.
+     */
+    public StubTable(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return O nome da tabela.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return A quantidade de registros armazenados.
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * @param id O id do registro.
+     * @return Uma cópia do registro, ou <b>null</b> se não existir.
+     */
+    public JsonObject get(int id) {
+        JsonObject record = records.get(id);
+        return (record != null) ? record.deepCopy() : null;
+    }
+
+    /**
+     * <p>
+     * Insere um novo registro. Se o registro não possuir a propriedade <b>id</b>, um novo id é gerado.
+     * </p>
+     *
+     * @param record O registro a ser inserido.
+     * @return O id do registro inserido.
+     * @throws NumberFormatException Se o id informado no registro não for um número inteiro.
+     */
+    public int insert(JsonObject record) {
+        JsonObject copy = record.deepCopy();
+        String givenId = getString(copy, "id");
+        int id = givenId.isBlank() ? lastId.incrementAndGet() : Integer.parseInt(givenId);
+        lastId.accumulateAndGet(id, Math::max);
+        copy.addProperty("id", String.valueOf(id));
+        records.put(id, stringify(copy));
+        return id;
+    }
+
+    /**
+     * <p>
+     * Atualiza as propriedades informadas de um registro existente.
+     * </p>
+     *
+     * @param id O id do registro.
+     * @param changes As propriedades a serem atualizadas.
+     * @return <b>true</b> se o registro existia e foi atualizado.
+     */
+    public boolean update(int id, JsonObject changes) {
+        return records.computeIfPresent(id, (key, current) -> {
+            JsonObject updated = current.deepCopy();
+            changes.entrySet().forEach(e -> updated.add(e.getKey(), e.getValue()));
+            updated.addProperty("id", String.valueOf(id));
+            return stringify(updated);
+        }) != null;
+    }
+
+    /**
+     * @param id O id do registro.
+     * @return <b>true</b> se o registro existia e foi removido.
+     */
+    public boolean delete(int id) {
+        return records.remove(id) != null;
+    }
+
+    /**
+     * <p>
+     * Executa uma query de busca no formato enviado pela biblioteca, com <b>qtype</b>, <b>query</b>, <b>oper</b>,
+     * <b>page</b>, <b>rp</b>, <b>sortname</b>, <b>sortorder</b> e <b>grid_param</b>.
+     * </p>
+     *
+     * @param query A query de busca.
+     * @return O JSON da página de listagem, com <b>page</b>, <b>total</b> e <b>registros</b>.
+     */
+    public String list(JsonObject query) {
+        Predicate<JsonObject> filter = getFilter(query);
+        List<JsonObject> matches = new ArrayList<>();
+        for (JsonObject record : records.values()) {
+            if (filter.test(record)) {
+                matches.add(record);
+            }
+        }
+        matches.sort(getComparator(query));
+
+        int page = Math.max(1, getInt(query, "page", 1));
+        int rows = Math.max(1, getInt(query, "rp", 20));
+        long from = (long) (page - 1) * rows;
+
+        StringBuilder json = new StringBuilder(64 + Math.min(rows, matches.size()) * 256);
+        json.append("{\"page\":\"").append(page).append("\",\"total\":\"").append(matches.size())
+                .append("\",\"registros\":[");
+        for (long i = from; i < Math.min(matches.size(), from + rows); i++) {
+            if (i > from) {
+                json.append(',');
+            }
+            json.append(matches.get((int) i));
+        }
+        return json.append("]}").toString();
+    }
+
+    private Predicate<JsonObject> getFilter(JsonObject query) {
+        Predicate<JsonObject> filter = record -> true;
+
+        String column = getString(query, "qtype");
+        String value = getString(query, "query");
+        if (!value.isEmpty() && !column.isEmpty()) {
+            filter = filter.and(condition(column, getString(query, "oper"), value));
+        }
+
+        String gridParam = getString(query, "grid_param");
+        if (!gridParam.isBlank()) {
+            JsonArray params = JsonParser.parseString(gridParam).getAsJsonArray();
+            for (JsonElement param : params) {
+                JsonObject p = param.getAsJsonObject();
+                filter = filter.and(condition(getString(p, "TB"), getString(p, "OP"), getString(p, "P")));
+            }
+        }
+        return filter;
+    }
+
+    private static Predicate<JsonObject> condition(String column, String operator, String expected) {
+        String property = columnOf(column);
+        Operator op = operatorOf(operator);
+        return record -> {
+            JsonElement element = record.get(property);
+            if (element == null || element.isJsonNull()) {
+                return false;
+            }
+            String actual = element.getAsString();
+            if (op == Operator.LIKE) {
+                return actual.toLowerCase().contains(expected.toLowerCase());
+            }
+            int comparison = compare(actual, expected);
+            return switch (op) {
+                case LESS_THAN -> comparison < 0;
+                case LESS_THAN_EQUALS -> comparison <= 0;
+                case GREATER_THAN -> comparison > 0;
+                case GREATER_THAN_EQUALS -> comparison >= 0;
+                default -> comparison == 0;
+            };
+        };
+    }
+
+    private static Comparator<JsonObject> getComparator(JsonObject query) {
+        String property = columnOf(getString(query, "sortname"));
+        if (property.isEmpty()) {
+            property = "id";
+        }
+        String sortProperty = property;
+        Comparator<JsonObject> comparator = (a, b) -> compare(valueOf(a, sortProperty), valueOf(b, sortProperty));
+        return Sort.DESC.value().equalsIgnoreCase(getString(query, "sortorder")) ? comparator.reversed() : comparator;
+    }
+
+    private static int compare(String a, String b) {
+        if (a == null || b == null) {
+            return (a == null) ? ((b == null) ? 0 : -1) : 1;
+        }
+        BigDecimal left = toNumber(a);
+        BigDecimal right = toNumber(b);
+        return (left != null && right != null) ? left.compareTo(right) : a.compareTo(b);
+    }
+
+    private static BigDecimal toNumber(String value) {
+        if (value.isEmpty() || !(Character.isDigit(value.charAt(0)) || value.charAt(0) == '-')) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        }
+        catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Operator operatorOf(String operator) {
+        for (Operator op : Operator.values()) {
+            if (op.value().equalsIgnoreCase(operator)) {
+                return op;
+            }
+        }
+        return Operator.EQUALS;
+    }
+
+    private static String columnOf(String column) {
+        int dot = column.lastIndexOf('.');
+        return (dot >= 0) ? column.substring(dot + 1) : column;
+    }
+
+    private static String valueOf(JsonObject record, String property) {
+        JsonElement element = record.get(property);
+        return (element != null && !element.isJsonNull()) ? element.getAsString() : null;
+    }
+
+    private static String getString(JsonObject object, String property) {
+        JsonElement element = object.get(property);
+        return (element != null && element.isJsonPrimitive()) ? element.getAsString() : "";
+    }
+
+    private static int getInt(JsonObject object, String property, int defaultValue) {
+        try {
+            String value = getString(object, property);
+            return value.isEmpty() ? defaultValue : Integer.parseInt(value);
+        }
+        catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static JsonObject stringify(JsonObject record) {
+        for (Map.Entry<String, JsonElement> entry : record.entrySet()) {
+            JsonElement value = entry.getValue();
+            if (value.isJsonPrimitive() && !value.getAsJsonPrimitive().isString()) {
+                entry.setValue(new JsonPrimitive(value.getAsString()));
+            }
+        }
+        return record;
+    }
+}
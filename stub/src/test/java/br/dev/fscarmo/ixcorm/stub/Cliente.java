@@ -0,0 +1,22 @@
+package br.dev.fscarmo.ixcorm.stub;
+
+
+import br.dev.fscarmo.ixcorm.IxcOrm;
+import br.dev.fscarmo.ixcorm.IxcTenant;
+
+
+/**
+ * <p>
+ * Entidade da tabela <b>cliente</b> do {@link IxcStubServer}, vinculada ao {@link IxcTenant} de cada teste.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class Cliente extends IxcOrm {
+
+    public Cliente(IxcTenant tenant) {
+        super("cliente", tenant);
+    }
+}
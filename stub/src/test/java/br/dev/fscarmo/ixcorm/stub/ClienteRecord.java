@@ -0,0 +1,33 @@
+package br.dev.fscarmo.ixcorm.stub;
+
+
+import br.dev.fscarmo.ixcorm.IxcRecord;
+import com.google.gson.JsonElement;
+
+
+/**
+ * <p>
+ * Registro da tabela <b>cliente</b> do {@link IxcStubServer}, com o nome e a coluna de última alteração.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class ClienteRecord extends IxcRecord {
+
+    private String nome;
+    private String ultima_atualizacao;
+
+    public ClienteRecord(JsonElement jsonElement) {
+        super(jsonElement);
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getUltimaAtualizacao() {
+        return ultima_atualizacao;
+    }
+}
@@ -0,0 +1,178 @@
+package br.dev.fscarmo.ixcorm.stub;
+
+
+import br.dev.fscarmo.ixcorm.IxcDeltaSync;
+import br.dev.fscarmo.ixcorm.IxcTenant;
+import br.dev.fscarmo.ixcorm.api.records.SyncCheckpoint;
+import br.dev.fscarmo.ixcorm.config.envs.StaticEnv;
+import br.dev.fscarmo.ixcorm.exception.DeltaSyncException;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * <p>
+ * Testes de integração de {@link IxcDeltaSync} contra o {@link IxcStubServer}. Os registros são gerados em grupos de
+ * 40 com a mesma última alteração, maiores que as páginas de 25 registros, para que a watermark e os ids da fronteira
+ * sejam exercitados entre páginas e entre execuções.
+ * </p>
+ *
+ * <p>
+ * O servidor responde às falhas com o status 200 e o corpo de erro da API, como o IXC Provedor.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+class IxcDeltaSyncTest {
+
+    private static final int ROWS = 200;
+    private static final int GROUP = 40;
+    private static final long FIRST_CHANGE = 1_700_000_000L;
+
+    @TempDir
+    Path checkpoints;
+
+    private IxcStubServer server;
+    private IxcTenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        server = IxcStubServer.newBuilder()
+                .table("cliente", ROWS, IxcDeltaSyncTest::record)
+                .errorStatus(200)
+                .build()
+                .start();
+        tenant = IxcTenant.newBuilder("delta", new StaticEnv("token", "localhost", server.getEndpoint()))
+                .coalescing(false)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenant.close();
+        server.close();
+    }
+
+    @Test
+    void deliversEveryRecordOnceAcrossSharedTimestamps() {
+        IxcDeltaSync<ClienteRecord> sync = newSync();
+        List<Integer> ids = new ArrayList<>();
+
+        assertEquals(ROWS, sync.run(record -> ids.add(record.getId())));
+        assertEquals(IntStream.rangeClosed(1, ROWS).boxed().toList(), ids);
+
+        SyncCheckpoint checkpoint = sync.getCheckpoint();
+        assertEquals(changeOf(ROWS), checkpoint.watermark());
+        assertEquals(range(ROWS - GROUP + 1, ROWS), checkpoint.boundaryIds());
+        assertEquals(0, sync.run(record -> ids.add(record.getId())));
+    }
+
+    @Test
+    void deliversOnlyRecordsChangedSinceTheWatermark() {
+        newSync().run(record -> {});
+        touch(7, FIRST_CHANGE + 100);
+        touch(120, FIRST_CHANGE + 100);
+        JsonObject sameSecond = record(500);
+        sameSecond.addProperty("ultima_atualizacao", changeOf(ROWS));
+        server.getTable("cliente").insert(sameSecond);
+
+        IxcDeltaSync<ClienteRecord> resumed = newSync();
+        List<Integer> ids = new ArrayList<>();
+
+        assertEquals(3, resumed.run(record -> ids.add(record.getId())));
+        assertEquals(List.of(500, 7, 120), ids);
+        assertEquals(new SyncCheckpoint(String.valueOf(FIRST_CHANGE + 100), Set.of(7, 120)),
+                resumed.getCheckpoint());
+    }
+
+    @Test
+    void keepsTheCheckpointWhenTheServerFails() {
+        IxcDeltaSync<ClienteRecord> sync = newSync();
+        sync.run(record -> {});
+        SyncCheckpoint before = sync.getCheckpoint();
+        touch(42, FIRST_CHANGE + 100);
+
+        server.failNext(1);
+        DeltaSyncException error = assertThrows(DeltaSyncException.class, () -> sync.run(record -> {}));
+        assertTrue(error.getMessage().contains("Erro simulado pelo IxcStubServer"));
+        assertEquals(before, sync.getCheckpoint());
+
+        List<Integer> ids = new ArrayList<>();
+        assertEquals(1, sync.run(record -> ids.add(record.getId())));
+        assertEquals(List.of(42), ids);
+    }
+
+    @Test
+    void redeliversThePageInterruptedByTheConsumer() {
+        IxcDeltaSync<ClienteRecord> sync = newSync();
+        List<Integer> ids = new ArrayList<>();
+
+        assertThrows(IllegalStateException.class, () -> sync.run(record -> {
+            if (record.getId() == 60) {
+                throw new IllegalStateException();
+            }
+            ids.add(record.getId());
+        }));
+        assertEquals(range(GROUP + 1, 50), sync.getCheckpoint().boundaryIds());
+
+        ids.clear();
+        assertEquals(ROWS - 50, sync.run(record -> ids.add(record.getId())));
+        assertEquals(IntStream.rangeClosed(51, ROWS).boxed().toList(), ids);
+    }
+
+    @Test
+    void startsOverAfterReset() {
+        IxcDeltaSync<ClienteRecord> sync = newSync();
+        sync.run(record -> {});
+        sync.reset();
+
+        assertNull(sync.getCheckpoint());
+        assertEquals(ROWS, sync.run(record -> {}));
+    }
+
+    private IxcDeltaSync<ClienteRecord> newSync() {
+        return IxcDeltaSync.newBuilder("cliente", () -> new Cliente(tenant), ClienteRecord.class)
+                .pageSize(25)
+                .checkpoints(checkpoints)
+                .build();
+    }
+
+    private void touch(int id, long change) {
+        JsonObject changes = new JsonObject();
+        changes.addProperty("ultima_atualizacao", String.valueOf(change));
+        server.getTable("cliente").update(id, changes);
+    }
+
+    private static JsonObject record(int id) {
+        JsonObject record = new JsonObject();
+        record.addProperty("id", String.valueOf(id));
+        record.addProperty("nome", "Cliente " + id);
+        record.addProperty("ultima_atualizacao", changeOf(id));
+        return record;
+    }
+
+    private static String changeOf(int id) {
+        return String.valueOf(FIRST_CHANGE + (id - 1) / GROUP);
+    }
+
+    private static Set<Integer> range(int first, int last) {
+        return IntStream.rangeClosed(first, last).boxed().collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,187 @@
+package br.dev.fscarmo.ixcorm.stub;
+
+
+import br.dev.fscarmo.ixcorm.IxcMirror;
+import br.dev.fscarmo.ixcorm.IxcTenant;
+import br.dev.fscarmo.ixcorm.api.records.Pagination;
+import br.dev.fscarmo.ixcorm.config.envs.StaticEnv;
+import br.dev.fscarmo.ixcorm.exception.MirrorStoreException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+/**
+ * <p>
+ * Testes de integração de {@link IxcMirror}, alimentado pelas listagens do {@link IxcStubServer}: o formato do arquivo
+ * gravado e a reconstrução do índice de ids ao reabrir o espelho.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+class IxcMirrorTest {
+
+    private static final int MAGIC = 0x4958434D;
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_HEADER_SIZE = 8;
+    private static final int ROWS = 300;
+
+    @TempDir
+    Path directory;
+
+    private IxcStubServer server;
+    private IxcTenant tenant;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        server = IxcStubServer.newBuilder().table("cliente", ROWS).build().start();
+        tenant = IxcTenant.newBuilder("mirror", new StaticEnv("token", "localhost", server.getEndpoint()))
+                .coalescing(false)
+                .build();
+        file = directory.resolve("cliente.mirror");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenant.close();
+        server.close();
+    }
+
+    @Test
+    void writesTheDocumentedLayout() throws IOException {
+        String first = "{\"id\":\"1\",\"nome\":\"Registro 1\"}";
+        String second = "{\"id\":\"2\",\"nome\":\"Registro 2\"}";
+        try (IxcMirror mirror = new IxcMirror(file)) {
+            mirror.put(1, first);
+            mirror.put(2, second);
+            mirror.delete(1);
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        long end = HEADER_SIZE + 3 * ENTRY_HEADER_SIZE + first.length() + second.length();
+        assertEquals(end, bytes.capacity());
+        assertEquals(MAGIC, bytes.getInt(0));
+        assertEquals(1, bytes.getInt(4));
+        assertEquals(end, bytes.getLong(8));
+
+        int offset = assertEntry(bytes, HEADER_SIZE, 1, first);
+        offset = assertEntry(bytes, offset, 2, second);
+        assertEquals(-1, bytes.getInt(offset));
+        assertEquals(1, bytes.getInt(offset + 4));
+    }
+
+    @Test
+    void rebuildsTheIndexOnReopen() {
+        try (IxcMirror mirror = new IxcMirror(file)) {
+            assertEquals(ROWS, mirror.putAll(listing()));
+            mirror.put(5, "{\"id\":\"5\",\"nome\":\"Alterado\"}");
+            mirror.delete(7);
+            mirror.delete(300);
+        }
+
+        try (IxcMirror mirror = new IxcMirror(file)) {
+            assertEquals(ROWS - 2, mirror.size());
+            assertEquals(expectedIds(), mirror.ids().boxed().collect(Collectors.toSet()));
+            assertEquals("Alterado", mirror.getValue(5, "nome"));
+            assertEquals("Registro 6", mirror.get(6, ClienteRecord.class).getNome());
+            assertNull(mirror.getJson(7));
+            assertFalse(mirror.contains(300));
+        }
+    }
+
+    @Test
+    void compactsToTheCurrentVersions() throws IOException {
+        try (IxcMirror mirror = new IxcMirror(file)) {
+            mirror.putAll(listing());
+            mirror.putAll(listing());
+            mirror.delete(7);
+            mirror.delete(300);
+            mirror.compact();
+            assertEquals(ROWS - 2, mirror.size());
+        }
+
+        long expected = HEADER_SIZE;
+        try (IxcMirror mirror = new IxcMirror(file)) {
+            assertEquals(expectedIds(), mirror.ids().boxed().collect(Collectors.toSet()));
+            for (int id : expectedIds()) {
+                expected += ENTRY_HEADER_SIZE + mirror.getJson(id).toString().getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        assertEquals(expected, Files.size(file));
+        assertFalse(Files.exists(directory.resolve("cliente.mirror.compact")));
+    }
+
+    @Test
+    void discardsAnIncompleteTrailingRecord() throws IOException {
+        try (IxcMirror mirror = new IxcMirror(file)) {
+            mirror.putAll(listing());
+        }
+        long size = Files.size(file);
+        ByteBuffer torn = ByteBuffer.allocate(ENTRY_HEADER_SIZE + 4).putInt(64).putInt(999).put("{\"id".getBytes());
+        Files.write(file, torn.array(), StandardOpenOption.APPEND);
+
+        try (IxcMirror mirror = new IxcMirror(file)) {
+            assertEquals(ROWS, mirror.size());
+            assertFalse(mirror.contains(999));
+            mirror.put(999, "{\"id\":\"999\"}");
+        }
+
+        try (IxcMirror mirror = new IxcMirror(file)) {
+            assertEquals(ROWS + 1, mirror.size());
+            assertEquals("999", mirror.getValue(999, "id"));
+        }
+        assertEquals(size + ENTRY_HEADER_SIZE + "{\"id\":\"999\"}".length(), Files.size(file));
+    }
+
+    @Test
+    void rejectsAFileThatIsNotAMirror() throws IOException {
+        byte[] content = "{\"registros\":[]}".getBytes(StandardCharsets.UTF_8);
+        Files.write(file, content);
+
+        assertThrows(MirrorStoreException.class, () -> new IxcMirror(file));
+        assertArrayEquals(content, Files.readAllBytes(file));
+    }
+
+    private Stream<ClienteRecord> listing() {
+        return new Cliente(tenant)
+                .setPagination(new Pagination(1, 100))
+                .stream(ClienteRecord.class);
+    }
+
+    private static Set<Integer> expectedIds() {
+        return IntStream.rangeClosed(1, ROWS)
+                .filter(id -> id != 7 && id != 300)
+                .boxed()
+                .collect(Collectors.toSet());
+    }
+
+    private static int assertEntry(ByteBuffer bytes, int offset, int id, String json) {
+        byte[] payload = new byte[json.length()];
+        bytes.get(offset + ENTRY_HEADER_SIZE, payload);
+        assertEquals(json.length(), bytes.getInt(offset));
+        assertEquals(id, bytes.getInt(offset + 4));
+        assertEquals(json, new String(payload, StandardCharsets.UTF_8));
+        return offset + ENTRY_HEADER_SIZE + payload.length;
+    }
+}
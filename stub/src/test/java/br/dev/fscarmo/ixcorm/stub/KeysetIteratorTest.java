@@ -0,0 +1,139 @@
+package br.dev.fscarmo.ixcorm.stub;
+
+
+import br.dev.fscarmo.ixcorm.IxcTenant;
+import br.dev.fscarmo.ixcorm.api.KeysetIterator;
+import br.dev.fscarmo.ixcorm.api.records.Pagination;
+import br.dev.fscarmo.ixcorm.config.envs.StaticEnv;
+import br.dev.fscarmo.ixcorm.exception.ListingException;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+
+/**
+ * <p>
+ * Testes de integração da paginação <i>keyset</i> de {@link KeysetIterator} contra o {@link IxcStubServer}: o fim da
+ * varredura, a estabilidade diante de alterações na tabela e a interrupção por uma página de falha.
+ * </p>
+ *
+ * @author Felipe S. Carmo
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+class KeysetIteratorTest {
+
+    private static final int ROWS = 50;
+
+    private IxcStubServer server;
+    private IxcTenant tenant;
+
+    @AfterEach
+    void tearDown() {
+        tenant.close();
+        server.close();
+    }
+
+    @Test
+    void stopsAfterAShortPage() {
+        start(IxcStubServer.newBuilder(), 237);
+
+        assertEquals(IntStream.rangeClosed(1, 237).boxed().toList(), readAll(scan()));
+        assertEquals(5, server.getRequestCount());
+    }
+
+    @Test
+    void stopsAfterAnEmptyPageWhenTheLastPageIsFull() {
+        start(IxcStubServer.newBuilder(), 200);
+
+        assertEquals(IntStream.rangeClosed(1, 200).boxed().toList(), readAll(scan()));
+        assertEquals(5, server.getRequestCount());
+    }
+
+    @Test
+    void stopsOnTheFirstPageOfAnEmptyTable() {
+        start(IxcStubServer.newBuilder(), 0);
+
+        assertEquals(List.of(), readAll(scan()));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void seeksPastChangesMadeDuringTheScan() {
+        start(IxcStubServer.newBuilder(), 237);
+        StubTable table = server.getTable("cliente");
+        List<Integer> ids = new ArrayList<>();
+
+        try (KeysetIterator<ClienteRecord> iterator = scan()) {
+            for (int i = 0; i < 60; i++) {
+                ids.add(iterator.next().getId());
+            }
+            table.delete(10);
+            table.delete(150);
+            JsonObject inserted = new JsonObject();
+            inserted.addProperty("id", "1000");
+            table.insert(inserted);
+            iterator.forEachRemaining(record -> ids.add(record.getId()));
+        }
+
+        List<Integer> expected = new ArrayList<>(IntStream.rangeClosed(1, 237).boxed().toList());
+        expected.remove(Integer.valueOf(150));
+        expected.add(1000);
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    void failsOnAnErrorStatusPage() {
+        start(IxcStubServer.newBuilder(), 237);
+        assertFailsOnTheSecondPage();
+    }
+
+    @Test
+    void failsOnAnErrorBodyWithSuccessStatus() {
+        start(IxcStubServer.newBuilder().errorStatus(200), 237);
+        assertFailsOnTheSecondPage();
+    }
+
+    private void assertFailsOnTheSecondPage() {
+        try (KeysetIterator<ClienteRecord> iterator = scan()) {
+            for (int i = 0; i < ROWS; i++) {
+                iterator.next();
+            }
+            server.failNext(1);
+
+            assertThrows(ListingException.class, iterator::hasNext);
+            assertFalse(iterator.hasNext());
+            assertEquals(ROWS, iterator.getLastId());
+        }
+        assertEquals(2, server.getRequestCount());
+    }
+
+    private void start(IxcStubServer.Builder builder, int rows) {
+        server = builder.table("cliente", rows).build().start();
+        tenant = IxcTenant.newBuilder("keyset", new StaticEnv("token", "localhost", server.getEndpoint()))
+                .coalescing(false)
+                .build();
+    }
+
+    private KeysetIterator<ClienteRecord> scan() {
+        return new Cliente(tenant)
+                .setPagination(new Pagination(1, ROWS))
+                .keysetIterator(ClienteRecord.class);
+    }
+
+    private static List<Integer> readAll(KeysetIterator<ClienteRecord> iterator) {
+        List<Integer> ids = new ArrayList<>();
+        try (iterator) {
+            iterator.forEachRemaining(record -> ids.add(record.getId()));
+        }
+        return ids;
+    }
+}